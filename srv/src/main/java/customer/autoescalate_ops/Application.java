@@ -2,10 +2,12 @@ package customer.autoescalate_ops;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(exclude = {
 	org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
 })
+@EnableScheduling
 public class Application {
 
 	public static void main(String[] args) {
@@ -0,0 +1,88 @@
+package customer.autoescalate_ops.analytics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch with a fixed relative error (log-bucketed, in the
+ * style of DDSketch). Every value is counted in the bucket covering
+ * {@code (gamma^(i-1), gamma^i]}, so quantiles are within 1% of the true value
+ * and two sketches merge exactly by adding bucket counts. Because buckets are
+ * plain counts, a value can also be removed again; removing a value whose
+ * bucket is empty is ignored, so counts never go negative.
+ */
+class QuantileSketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    void add(double value) {
+        adjust(value, 1);
+    }
+
+    /**
+     * @return whether a value in the same bucket was present and has been removed
+     */
+    boolean remove(double value) {
+        return adjust(value, -1);
+    }
+
+    void merge(QuantileSketch other) {
+        other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * @param quantile between 0 and 1
+     * @return the estimated value at that quantile, or {@code null} if the sketch is empty
+     */
+    Double quantile(double quantile) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0.0;
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return 2 * Math.pow(GAMMA, bucket.getKey()) / (GAMMA + 1);
+            }
+        }
+        return 2 * Math.pow(GAMMA, buckets.lastKey()) / (GAMMA + 1);
+    }
+
+    private boolean adjust(double value, long delta) {
+        if (value <= 0) {
+            if (zeroCount + delta < 0) {
+                return false;
+            }
+            zeroCount += delta;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+            long bucketCount = buckets.getOrDefault(index, 0L) + delta;
+            if (bucketCount < 0) {
+                return false;
+            }
+            if (bucketCount == 0) {
+                buckets.remove(index);
+            } else {
+                buckets.put(index, bucketCount);
+            }
+        }
+        count += delta;
+        return true;
+    }
+}
@@ -0,0 +1,300 @@
+package customer.autoescalate_ops.analytics;
+
+import customer.autoescalate_ops.config.AnalyticsProperties;
+import customer.autoescalate_ops.dto.IssueTimestamps;
+import customer.autoescalate_ops.dto.ResponseTimeReport;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.repository.IssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Hourly and daily rollups of time-to-acknowledge (MTTA) and time-to-resolve
+ * (MTTR) per location, type and priority.
+ *
+ * <p>Each sample is filed under the hour and day in which the issue was
+ * acknowledged or resolved. Rollups are rebuilt from issue history at startup
+ * (and on demand) and then updated incrementally as {@code updateIssue} stamps
+ * timestamps, so reports never have to read the issues themselves.
+ */
+@Component
+public class ResponseTimeRollups {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseTimeRollups.class);
+
+    private static final String ALL = "all";
+
+    private final IssueRepository issueRepository;
+    private final AnalyticsProperties analyticsProperties;
+
+    // Shared by updates from just before their commit until they are applied, exclusive
+    // for a backfill, so no update can commit between the backfill's read and its swap
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    private Buckets buckets = new Buckets();
+
+    public ResponseTimeRollups(IssueRepository issueRepository, AnalyticsProperties analyticsProperties) {
+        this.issueRepository = issueRepository;
+        this.analyticsProperties = analyticsProperties;
+    }
+
+    /**
+     * Rebuilds all rollups from the stored issues and swaps them in. Issue
+     * updates wait at commit while this runs: an update that committed before
+     * has already been applied and is in the rows read, and one that commits
+     * afterwards is applied to the rebuilt rollups.
+     *
+     * @return the number of issues read
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public long backfill() {
+        Buckets rebuilt = new Buckets();
+        long issues = 0;
+        commitLock.writeLock().lock();
+        try {
+            try (Stream<IssueTimestamps> history = issueRepository.streamResponseTimes()) {
+                for (IssueTimestamps issue : (Iterable<IssueTimestamps>) history::iterator) {
+                    Dimensions dimensions = new Dimensions(issue.getLocation(), issue.getType(), issue.getPriority());
+                    rebuilt.record(Metric.ACKNOWLEDGE, dimensions, issue.getReportedAt(), issue.getAcknowledgedAt(), 1);
+                    rebuilt.record(Metric.RESOLVE, dimensions, issue.getReportedAt(), issue.getResolvedAt(), 1);
+                    issues++;
+                }
+            }
+            rebuilt.evictHourlyBefore(hourlyCutoff());
+
+            synchronized (this) {
+                buckets = rebuilt;
+            }
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+        logger.info("Response-time rollups rebuilt from {} issues", issues);
+        return issues;
+    }
+
+    /**
+     * Applies timestamp changes made by an issue update once it commits. A
+     * re-stamped timestamp moves the sample instead of adding a second one.
+     */
+    public void timestampsChanged(Issue issue, LocalDateTime oldAcknowledgedAt, LocalDateTime oldResolvedAt) {
+        LocalDateTime reportedAt = issue.getReportedAt();
+        LocalDateTime acknowledgedAt = issue.getAcknowledgedAt();
+        LocalDateTime resolvedAt = issue.getResolvedAt();
+        if (reportedAt == null
+                || (equal(oldAcknowledgedAt, acknowledgedAt) && equal(oldResolvedAt, resolvedAt))) {
+            return;
+        }
+        Dimensions dimensions = new Dimensions(issue.getLocation(), issue.getType(), issue.getPriority());
+
+        Runnable apply = () -> {
+            synchronized (this) {
+                if (!equal(oldAcknowledgedAt, acknowledgedAt)) {
+                    buckets.record(Metric.ACKNOWLEDGE, dimensions, reportedAt, oldAcknowledgedAt, -1);
+                    buckets.record(Metric.ACKNOWLEDGE, dimensions, reportedAt, acknowledgedAt, 1);
+                }
+                if (!equal(oldResolvedAt, resolvedAt)) {
+                    buckets.record(Metric.RESOLVE, dimensions, reportedAt, oldResolvedAt, -1);
+                    buckets.record(Metric.RESOLVE, dimensions, reportedAt, resolvedAt, 1);
+                }
+                buckets.evictHourlyBefore(hourlyCutoff());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    commitLock.readLock().lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (locked) {
+                        commitLock.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * Reports response times for {@code [from, to)}, widened to whole hours, using
+     * daily rollups for whole days and hourly rollups for the partial days at
+     * either end. Hourly rollups are only kept for the configured retention, so
+     * a range that needs them further back must start and end on whole days.
+     *
+     * @param groupBy {@code location}, {@code type}, {@code priority} or {@code null} for one overall group
+     */
+    public synchronized List<ResponseTimeReport> report(LocalDateTime from, LocalDateTime to,
+                                                        String location, String type, String priority,
+                                                        String groupBy) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS).equals(to) ? to : to.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Report range is empty: " + from + " to " + to);
+        }
+        LocalDateTime firstFullDay = start.truncatedTo(ChronoUnit.DAYS).equals(start) ? start : start.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        LocalDateTime fullDaysEnd = end.truncatedTo(ChronoUnit.DAYS);
+        boolean spansFullDays = firstFullDay.isBefore(fullDaysEnd);
+
+        // Start of the first hourly slice the report reads, if any
+        LocalDateTime hourlyFrom = !spansFullDays || start.isBefore(firstFullDay) ? start
+                : fullDaysEnd.isBefore(end) ? fullDaysEnd : null;
+        LocalDateTime hourlyCutoff = hourlyCutoff();
+        if (hourlyFrom != null && hourlyFrom.isBefore(hourlyCutoff)) {
+            throw new IllegalArgumentException("Hourly response times are only kept since " + hourlyCutoff
+                    + "; earlier ranges must start and end at midnight");
+        }
+
+        List<Map<Dimensions, Rollup[]>> slices = new ArrayList<>();
+        if (spansFullDays) {
+            slices.addAll(buckets.daily.subMap(firstFullDay, true, fullDaysEnd, false).values());
+            slices.addAll(buckets.hourly.subMap(start, true, firstFullDay, false).values());
+            slices.addAll(buckets.hourly.subMap(fullDaysEnd, true, end, false).values());
+        } else {
+            slices.addAll(buckets.hourly.subMap(start, true, end, false).values());
+        }
+
+        Function<Dimensions, String> grouping = grouping(groupBy);
+        Map<String, Rollup[]> groups = new TreeMap<>();
+        for (Map<Dimensions, Rollup[]> slice : slices) {
+            slice.forEach((dimensions, rollups) -> {
+                if (matches(location, dimensions.location()) && matches(type, dimensions.type())
+                        && matches(priority, dimensions.priority())) {
+                    Rollup[] merged = groups.computeIfAbsent(grouping.apply(dimensions), g -> Buckets.emptyRollups());
+                    for (Metric metric : Metric.values()) {
+                        merged[metric.ordinal()].merge(rollups[metric.ordinal()]);
+                    }
+                }
+            });
+        }
+
+        List<ResponseTimeReport> reports = new ArrayList<>();
+        groups.forEach((group, rollups) -> {
+            ResponseTimeReport report = new ResponseTimeReport();
+            report.setGroup(group);
+            report.setFrom(start);
+            report.setTo(end);
+            report.setAcknowledge(rollups[Metric.ACKNOWLEDGE.ordinal()].toStats());
+            report.setResolve(rollups[Metric.RESOLVE.ordinal()].toStats());
+            reports.add(report);
+        });
+        return reports;
+    }
+
+    private LocalDateTime hourlyCutoff() {
+        return LocalDateTime.now().minus(analyticsProperties.getHourlyRetention()).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static Function<Dimensions, String> grouping(String groupBy) {
+        if (groupBy == null) {
+            return dimensions -> ALL;
+        }
+        return switch (groupBy) {
+            case "location" -> Dimensions::location;
+            case "type" -> Dimensions::type;
+            case "priority" -> Dimensions::priority;
+            default -> throw new IllegalArgumentException("Unsupported groupBy: " + groupBy);
+        };
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.equals(value);
+    }
+
+    private static boolean equal(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private enum Metric {
+        ACKNOWLEDGE,
+        RESOLVE
+    }
+
+    private record Dimensions(String location, String type, String priority) {
+
+        Dimensions {
+            location = location != null ? location : "";
+            type = type != null ? type : "";
+            priority = priority != null ? priority : "";
+        }
+    }
+
+    /**
+     * Rollups by hour and by day, each keyed by dimensions and holding one
+     * rollup per metric.
+     */
+    private static class Buckets {
+
+        private final NavigableMap<LocalDateTime, Map<Dimensions, Rollup[]>> hourly = new TreeMap<>();
+        private final NavigableMap<LocalDateTime, Map<Dimensions, Rollup[]>> daily = new TreeMap<>();
+
+        void record(Metric metric, Dimensions dimensions, LocalDateTime reportedAt, LocalDateTime stampedAt, int delta) {
+            if (stampedAt == null) {
+                return;
+            }
+            double seconds = Math.max(0, Duration.between(reportedAt, stampedAt).toMillis() / 1000.0);
+            apply(hourly, stampedAt.truncatedTo(ChronoUnit.HOURS), metric, dimensions, seconds, delta);
+            apply(daily, stampedAt.truncatedTo(ChronoUnit.DAYS), metric, dimensions, seconds, delta);
+        }
+
+        void evictHourlyBefore(LocalDateTime cutoff) {
+            hourly.headMap(cutoff, false).clear();
+        }
+
+        static Rollup[] emptyRollups() {
+            Rollup[] rollups = new Rollup[Metric.values().length];
+            for (int i = 0; i < rollups.length; i++) {
+                rollups[i] = new Rollup();
+            }
+            return rollups;
+        }
+
+        private static void apply(NavigableMap<LocalDateTime, Map<Dimensions, Rollup[]>> series, LocalDateTime bucket,
+                                  Metric metric, Dimensions dimensions, double seconds, int delta) {
+            if (delta > 0) {
+                series.computeIfAbsent(bucket, b -> new HashMap<>())
+                        .computeIfAbsent(dimensions, d -> emptyRollups())[metric.ordinal()]
+                        .add(seconds);
+                return;
+            }
+            // Removals only apply to buckets still held; evicted hours are gone for good
+            Map<Dimensions, Rollup[]> slice = series.get(bucket);
+            Rollup[] rollups = slice != null ? slice.get(dimensions) : null;
+            if (rollups != null && !rollups[metric.ordinal()].isEmpty()) {
+                rollups[metric.ordinal()].remove(seconds);
+            }
+        }
+    }
+}
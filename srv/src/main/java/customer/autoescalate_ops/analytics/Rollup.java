@@ -0,0 +1,50 @@
+package customer.autoescalate_ops.analytics;
+
+import customer.autoescalate_ops.dto.ResponseTimeStats;
+
+/**
+ * Count, sum and quantile sketch of one response-time metric for one
+ * time bucket and dimension combination.
+ */
+class Rollup {
+
+    private long count;
+    private double sumSeconds;
+    private final QuantileSketch sketch = new QuantileSketch();
+
+    void add(double seconds) {
+        count++;
+        sumSeconds += seconds;
+        sketch.add(seconds);
+    }
+
+    // Only a sample the sketch actually held is taken out of the count and sum
+    void remove(double seconds) {
+        if (sketch.remove(seconds)) {
+            count--;
+            sumSeconds -= seconds;
+        }
+    }
+
+    void merge(Rollup other) {
+        count += other.count;
+        sumSeconds += other.sumSeconds;
+        sketch.merge(other.sketch);
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    ResponseTimeStats toStats() {
+        ResponseTimeStats stats = new ResponseTimeStats();
+        stats.setCount(count);
+        if (count > 0) {
+            stats.setMeanSeconds(sumSeconds / count);
+            stats.setP50Seconds(sketch.quantile(0.50));
+            stats.setP90Seconds(sketch.quantile(0.90));
+            stats.setP99Seconds(sketch.quantile(0.99));
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,80 @@
+package customer.autoescalate_ops.assignment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Users eligible for one issue type, bucketed by their open-issue load.
+ * Picking the least-loaded user and moving a user between buckets are O(1)
+ * (amortized); users with equal load are handed out in round-robin order.
+ * Not thread-safe, guarded by {@link AssignmentEngine}.
+ */
+class AssigneePool {
+
+    private final List<LinkedHashSet<UUID>> buckets = new ArrayList<>();
+    private final Map<UUID, Integer> loads = new HashMap<>();
+    private int minLoad;
+
+    void add(UUID userId, int load) {
+        if (loads.containsKey(userId)) {
+            updateLoad(userId, load);
+            return;
+        }
+        loads.put(userId, load);
+        bucket(load).add(userId);
+        if (loads.size() == 1 || load < minLoad) {
+            minLoad = load;
+        }
+    }
+
+    void remove(UUID userId) {
+        Integer load = loads.remove(userId);
+        if (load != null) {
+            buckets.get(load).remove(userId);
+        }
+    }
+
+    void updateLoad(UUID userId, int load) {
+        Integer current = loads.get(userId);
+        if (current == null || current == load) {
+            return;
+        }
+        buckets.get(current).remove(userId);
+        loads.put(userId, load);
+        bucket(load).add(userId);
+        if (load < minLoad) {
+            minLoad = load;
+        }
+    }
+
+    /**
+     * Returns the user with the lowest load, or {@code null} if the pool is empty.
+     * The caller is expected to raise that user's load afterwards.
+     */
+    UUID leastLoaded() {
+        if (loads.isEmpty()) {
+            return null;
+        }
+        while (buckets.get(minLoad).isEmpty()) {
+            minLoad++;
+        }
+        Iterator<UUID> candidates = buckets.get(minLoad).iterator();
+        return candidates.next();
+    }
+
+    boolean isEmpty() {
+        return loads.isEmpty();
+    }
+
+    private LinkedHashSet<UUID> bucket(int load) {
+        while (buckets.size() <= load) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        return buckets.get(load);
+    }
+}
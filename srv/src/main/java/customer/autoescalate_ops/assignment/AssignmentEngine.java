@@ -0,0 +1,379 @@
+package customer.autoescalate_ops.assignment;
+
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.Team;
+import customer.autoescalate_ops.entity.User;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.TeamRepository;
+import customer.autoescalate_ops.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Routes new issues to the least-loaded active member of a team whose
+ * {@code defaultIssueTypes} include the issue type.
+ *
+ * <p>The engine keeps an in-memory index from issue type to eligible users
+ * together with each user's open-issue load and the user and team names, so
+ * assigning an issue and reporting the assignee do not query Teams or Users. The index is built once at startup and then kept
+ * current from team/user changes made through JPA ({@link AssignmentEntityListener})
+ * or OData ({@code AssignmentIndexHandler}), and from issue assignments and
+ * status changes reported by the issue service.
+ */
+@Component
+public class AssignmentEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentEngine.class);
+
+    // Upper case; statuses are compared case-insensitively and a missing status counts as open
+    private static final Set<String> CLOSED_STATUSES = Set.of("RESOLVED", "CLOSED");
+
+    private final IssueRepository issueRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+
+    private final Map<String, AssigneePool> poolsByType = new HashMap<>();
+    private final Map<UUID, Set<String>> teamTypes = new HashMap<>();
+    private final Map<UUID, Set<UUID>> teamMembers = new HashMap<>();
+    private final Map<UUID, String> teamNames = new HashMap<>();
+    private final Map<UUID, Assignee> assignees = new HashMap<>();
+
+    // Load changes made while a rebuild reads the database, replayed onto the counts it read
+    private final Object rebuildLock = new Object();
+    private Map<UUID, Integer> rebuildDeltas;
+
+    public AssignmentEngine(IssueRepository issueRepository, TeamRepository teamRepository,
+                            UserRepository userRepository) {
+        this.issueRepository = issueRepository;
+        this.teamRepository = teamRepository;
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            List<Team> teams;
+            List<User> users;
+            Map<UUID, Integer> openIssues = new HashMap<>();
+            synchronized (this) {
+                rebuildDeltas = new HashMap<>();
+            }
+            try {
+                for (Object[] row : issueRepository.countOpenIssuesByAssignee(CLOSED_STATUSES)) {
+                    openIssues.put((UUID) row[0], ((Number) row[1]).intValue());
+                }
+                teams = teamRepository.findAll();
+                users = userRepository.findAll();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    rebuildDeltas = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                rebuildDeltas.forEach((userId, delta) -> openIssues.merge(userId, delta, Integer::sum));
+                rebuildDeltas = null;
+
+                poolsByType.clear();
+                teamTypes.clear();
+                teamMembers.clear();
+                teamNames.clear();
+                assignees.clear();
+
+                for (Team team : teams) {
+                    putTeam(team.getId(), team.getName(), parseIssueTypes(team.getDefaultIssueTypes()));
+                }
+                for (User user : users) {
+                    putUser(user.getId(), user.getName(), teamId(user), !Boolean.FALSE.equals(user.getActive()),
+                            Math.max(0, openIssues.getOrDefault(user.getId(), 0)));
+                }
+            }
+            logger.info("Assignment index built: {} teams, {} users, {} issue types",
+                    teams.size(), users.size(), poolsByType.size());
+        }
+    }
+
+    /**
+     * Assigns the issue to the least-loaded eligible user and that user's team.
+     * Does nothing if the issue is already assigned or no team handles its type.
+     * The issue gets references only; the names come from the index.
+     *
+     * @return the assignee that was set, or {@code null}
+     */
+    public Assignment assign(Issue issue) {
+        if (issue.getAssignedUser() != null || issue.getType() == null) {
+            return null;
+        }
+
+        Assignment assignment;
+        synchronized (this) {
+            AssigneePool pool = poolsByType.get(normalizeType(issue.getType()));
+            UUID userId = pool != null ? pool.leastLoaded() : null;
+            if (userId == null) {
+                return null;
+            }
+            Assignee assignee = assignees.get(userId);
+            assignment = new Assignment(userId, assignee.name, assignee.teamId, teamNames.get(assignee.teamId));
+            adjustLoad(userId, 1);
+        }
+
+        // Give the slot back if the issue is never stored
+        afterCompletion(false, () -> adjustLoad(assignment.userId(), -1));
+
+        issue.setAssignedUser(userRepository.getReferenceById(assignment.userId()));
+        issue.setAssignedTeam(teamRepository.getReferenceById(assignment.teamId()));
+        return assignment;
+    }
+
+    /**
+     * Records an assignee or status change of an existing issue once it commits.
+     */
+    public void issueUpdated(UUID oldAssigneeId, String oldStatus, UUID newAssigneeId, String newStatus) {
+        boolean wasCounted = oldAssigneeId != null && isOpen(oldStatus);
+        boolean isCounted = newAssigneeId != null && isOpen(newStatus);
+        if (wasCounted && isCounted && oldAssigneeId.equals(newAssigneeId)) {
+            return;
+        }
+
+        afterCompletion(true, () -> {
+            if (wasCounted) {
+                adjustLoad(oldAssigneeId, -1);
+            }
+            if (isCounted) {
+                adjustLoad(newAssigneeId, 1);
+            }
+        });
+    }
+
+    public void teamChanged(Team team) {
+        UUID teamId = team.getId();
+        String name = team.getName();
+        Set<String> types = parseIssueTypes(team.getDefaultIssueTypes());
+        afterCompletion(true, () -> putTeam(teamId, name, types));
+    }
+
+    public void teamRemoved(Team team) {
+        UUID teamId = team.getId();
+        afterCompletion(true, () -> removeTeam(teamId));
+    }
+
+    public void userChanged(User user) {
+        UUID userId = user.getId();
+        String name = user.getName();
+        UUID teamId = teamId(user);
+        boolean active = !Boolean.FALSE.equals(user.getActive());
+        afterCompletion(true, () -> putUser(userId, name, teamId, active, null));
+    }
+
+    public void userRemoved(User user) {
+        UUID userId = user.getId();
+        afterCompletion(true, () -> removeUser(userId));
+    }
+
+    /**
+     * Reloads the given teams, then the given users, from the database once
+     * the surrounding transaction commits. Used for writes that bypass JPA;
+     * ids that no longer exist are removed from the index.
+     */
+    @Transactional(readOnly = true)
+    public void refresh(Collection<UUID> teamIds, Collection<UUID> userIds) {
+        for (UUID teamId : teamIds) {
+            teamRepository.findById(teamId).ifPresentOrElse(this::teamChanged,
+                    () -> afterCompletion(true, () -> removeTeam(teamId)));
+        }
+        for (UUID userId : userIds) {
+            userRepository.findById(userId).ifPresentOrElse(this::userChanged,
+                    () -> afterCompletion(true, () -> removeUser(userId)));
+        }
+    }
+
+    public static boolean isOpen(String status) {
+        return status == null || !CLOSED_STATUSES.contains(status.toUpperCase(Locale.ROOT));
+    }
+
+    private synchronized void putTeam(UUID teamId, String name, Set<String> types) {
+        teamNames.put(teamId, name);
+        Set<String> oldTypes = teamTypes.getOrDefault(teamId, Collections.emptySet());
+        Set<UUID> members = teamMembers.getOrDefault(teamId, Collections.emptySet());
+
+        for (String type : oldTypes) {
+            if (!types.contains(type)) {
+                members.forEach(userId -> removeFromPool(type, userId));
+            }
+        }
+        for (String type : types) {
+            if (!oldTypes.contains(type)) {
+                for (UUID userId : members) {
+                    Assignee assignee = assignees.get(userId);
+                    if (assignee.active) {
+                        pool(type).add(userId, assignee.load);
+                    }
+                }
+            }
+        }
+
+        if (types.isEmpty()) {
+            teamTypes.remove(teamId);
+        } else {
+            teamTypes.put(teamId, types);
+        }
+    }
+
+    // Members stay in the index without a team, so a team recreated with the same id starts empty
+    private synchronized void removeTeam(UUID teamId) {
+        putTeam(teamId, null, Collections.emptySet());
+        teamNames.remove(teamId);
+        Set<UUID> members = teamMembers.remove(teamId);
+        if (members != null) {
+            for (UUID userId : members) {
+                Assignee assignee = assignees.get(userId);
+                assignees.put(userId, new Assignee(assignee.name, null, assignee.active, assignee.load));
+            }
+        }
+    }
+
+    /**
+     * @param load open-issue count to start from, or {@code null} to keep the current one
+     */
+    private synchronized void putUser(UUID userId, String name, UUID teamId, boolean active, Integer load) {
+        Assignee previous = assignees.get(userId);
+        int currentLoad = load != null ? load : previous != null ? previous.load : 0;
+        removeUser(userId);
+
+        assignees.put(userId, new Assignee(name, teamId, active, currentLoad));
+        if (teamId == null) {
+            return;
+        }
+        teamMembers.computeIfAbsent(teamId, id -> new HashSet<>()).add(userId);
+        if (active) {
+            for (String type : teamTypes.getOrDefault(teamId, Collections.emptySet())) {
+                pool(type).add(userId, currentLoad);
+            }
+        }
+    }
+
+    private synchronized void removeUser(UUID userId) {
+        Assignee assignee = assignees.remove(userId);
+        if (assignee == null || assignee.teamId == null) {
+            return;
+        }
+        Set<UUID> members = teamMembers.get(assignee.teamId);
+        if (members != null) {
+            members.remove(userId);
+        }
+        for (String type : teamTypes.getOrDefault(assignee.teamId, Collections.emptySet())) {
+            removeFromPool(type, userId);
+        }
+    }
+
+    private synchronized void adjustLoad(UUID userId, int delta) {
+        if (rebuildDeltas != null) {
+            rebuildDeltas.merge(userId, delta, Integer::sum);
+        }
+        Assignee assignee = assignees.get(userId);
+        if (assignee == null) {
+            return;
+        }
+        assignee.load = Math.max(0, assignee.load + delta);
+        if (assignee.active && assignee.teamId != null) {
+            for (String type : teamTypes.getOrDefault(assignee.teamId, Collections.emptySet())) {
+                pool(type).updateLoad(userId, assignee.load);
+            }
+        }
+    }
+
+    private AssigneePool pool(String type) {
+        return poolsByType.computeIfAbsent(type, t -> new AssigneePool());
+    }
+
+    private void removeFromPool(String type, UUID userId) {
+        AssigneePool pool = poolsByType.get(type);
+        if (pool != null) {
+            pool.remove(userId);
+            if (pool.isEmpty()) {
+                poolsByType.remove(type);
+            }
+        }
+    }
+
+    /**
+     * Runs the action after the surrounding transaction commits (or, with
+     * {@code onCommit == false}, after it rolls back). Without a transaction a
+     * commit action runs immediately and a rollback action never.
+     */
+    private void afterCompletion(boolean onCommit, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (onCommit) {
+                action.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == onCommit) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static UUID teamId(User user) {
+        return user.getTeam() != null ? user.getTeam().getId() : null;
+    }
+
+    private static Set<String> parseIssueTypes(String defaultIssueTypes) {
+        Set<String> types = new HashSet<>();
+        if (defaultIssueTypes != null) {
+            for (String type : defaultIssueTypes.split(",")) {
+                if (!type.isBlank()) {
+                    types.add(normalizeType(type));
+                }
+            }
+        }
+        return types;
+    }
+
+    private static String normalizeType(String type) {
+        return type.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * The user and team an issue was assigned to, with their names as indexed.
+     */
+    public record Assignment(UUID userId, String userName, UUID teamId, String teamName) {
+    }
+
+    private static class Assignee {
+
+        private final String name;
+        private final UUID teamId;
+        private final boolean active;
+        private int load;
+
+        Assignee(String name, UUID teamId, boolean active, int load) {
+            this.name = name;
+            this.teamId = teamId;
+            this.active = active;
+            this.load = load;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package customer.autoescalate_ops.assignment;
+
+import customer.autoescalate_ops.entity.Team;
+import customer.autoescalate_ops.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds Team and User changes into the {@link AssignmentEngine} index.
+ * The engine is looked up lazily because it depends on the repositories,
+ * which are only available after the entity manager this listener is part of,
+ * and skipped where no engine exists (JPA slice tests).
+ */
+@Component
+public class AssignmentEntityListener {
+
+    private final ObjectProvider<AssignmentEngine> assignmentEngine;
+
+    public AssignmentEntityListener(ObjectProvider<AssignmentEngine> assignmentEngine) {
+        this.assignmentEngine = assignmentEngine;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void changed(Object entity) {
+        if (entity instanceof Team team) {
+            assignmentEngine.ifAvailable(engine -> engine.teamChanged(team));
+        } else if (entity instanceof User user) {
+            assignmentEngine.ifAvailable(engine -> engine.userChanged(user));
+        }
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        if (entity instanceof Team team) {
+            assignmentEngine.ifAvailable(engine -> engine.teamRemoved(team));
+        } else if (entity instanceof User user) {
+            assignmentEngine.ifAvailable(engine -> engine.userRemoved(user));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package customer.autoescalate_ops.attachment;
+
+import customer.autoescalate_ops.config.AttachmentProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Attachment content on local disk. Content is streamed through a fixed-size
+ * buffer into a temporary file, with size and SHA-256 computed on the way,
+ * and moved into place only once complete, so a failed upload never leaves a
+ * partial file behind a key. The store lives under the absolute
+ * {@code attachments.storage-dir}; its directories are created on first upload.
+ */
+@Component
+public class AttachmentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path incoming;
+
+    public AttachmentStore(AttachmentProperties attachmentProperties) {
+        Path storageDir = attachmentProperties.getStorageDir();
+        if (storageDir == null || !storageDir.isAbsolute()) {
+            throw new IllegalStateException(
+                    "attachments.storage-dir must be an absolute path, but was: " + storageDir);
+        }
+        this.root = storageDir.normalize();
+        this.incoming = root.resolve("incoming");
+    }
+
+    /**
+     * Streams {@code content} into the store under a new key.
+     *
+     * @param maxBytes content longer than this is rejected and discarded
+     */
+    public StoredContent store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        String key = newKey();
+        Files.createDirectories(incoming);
+        Path temp = Files.createTempFile(incoming, "upload-", ".tmp");
+        long size = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("Attachment exceeds maximum size of " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return new StoredContent(key, size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Copies {@code count} bytes starting at {@code position} to {@code target}
+     * with {@link FileChannel#transferTo}, which lets the kernel move the bytes
+     * without copying them through the heap where the target supports it.
+     */
+    public void transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long sent = channel.transferTo(position + transferred, count - transferred, target);
+                if (sent <= 0 && position + transferred >= channel.size()) {
+                    throw new IOException("Attachment " + key + " is shorter than expected");
+                }
+                transferred += sent;
+            }
+        }
+    }
+
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(incoming)) {
+            throw new IllegalArgumentException("Invalid attachment key: " + key);
+        }
+        return path;
+    }
+
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    // Two hex characters of fan-out keep directories small
+    private static String newKey() {
+        String id = UUID.randomUUID().toString();
+        return id.substring(0, 2) + "/" + id;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record StoredContent(String key, long size, String checksum) {
+    }
+}
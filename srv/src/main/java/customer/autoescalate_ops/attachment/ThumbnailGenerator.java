@@ -0,0 +1,160 @@
+package customer.autoescalate_ops.attachment;
+
+import customer.autoescalate_ops.config.AttachmentProperties;
+import customer.autoescalate_ops.repository.AttachmentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders JPEG thumbnails for image attachments off the request thread, on a
+ * fixed number of workers with a bounded queue. When the queue is full the
+ * thumbnail is skipped rather than letting a burst of uploads pile decoded
+ * images onto the heap.
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailGenerator.class);
+
+    private final AttachmentStore attachmentStore;
+    private final AttachmentRepository attachmentRepository;
+    private final int thumbnailSize;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailGenerator(AttachmentStore attachmentStore, AttachmentRepository attachmentRepository,
+                              AttachmentProperties attachmentProperties) {
+        this.attachmentStore = attachmentStore;
+        this.attachmentRepository = attachmentRepository;
+        this.thumbnailSize = attachmentProperties.getThumbnailSize();
+
+        AtomicInteger threads = new AtomicInteger();
+        int workers = attachmentProperties.getThumbnailWorkers();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(attachmentProperties.getThumbnailQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "thumbnail-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> logger.warn("Thumbnail queue full, skipping thumbnail"));
+    }
+
+    /**
+     * Queues a thumbnail for an image attachment once the current transaction
+     * commits, or straight away outside a transaction.
+     */
+    public void requestThumbnail(UUID attachmentId, String contentKey, String fileType) {
+        if (fileType == null || !fileType.startsWith("image/")) {
+            return;
+        }
+        Runnable submit = () -> executor.execute(() -> generate(attachmentId, contentKey));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void generate(UUID attachmentId, String contentKey) {
+        try {
+            BufferedImage image = readScaledDown(contentKey);
+            if (image == null) {
+                logger.debug("No image reader for attachment {}, skipping thumbnail", attachmentId);
+                return;
+            }
+            byte[] thumbnail = encodeThumbnail(image);
+            AttachmentStore.StoredContent stored = attachmentStore.store(
+                    new ByteArrayInputStream(thumbnail), thumbnail.length);
+
+            attachmentRepository.findById(attachmentId).ifPresentOrElse(attachment -> {
+                attachment.setThumbnailUrl(stored.key());
+                attachmentRepository.save(attachment);
+            }, () -> deleteQuietly(stored.key()));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to generate thumbnail for attachment {}: {}", attachmentId, e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the image with source subsampling, so a large photo is never
+     * held in memory at full resolution.
+     */
+    private BufferedImage readScaledDown(String contentKey) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(attachmentStore.resolve(contentKey).toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestEdge / (thumbnailSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] encodeThumbnail(BufferedImage image) throws IOException {
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            attachmentStore.delete(key);
+        } catch (IOException e) {
+            logger.warn("Failed to delete orphaned thumbnail {}: {}", key, e.getMessage());
+        }
+    }
+}
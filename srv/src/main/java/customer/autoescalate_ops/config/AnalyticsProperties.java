@@ -0,0 +1,23 @@
+package customer.autoescalate_ops.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "analytics")
+public class AnalyticsProperties {
+
+    // Daily rollups are kept for good, hourly ones only this long
+    private Duration hourlyRetention = Duration.ofDays(90);
+
+    // Getters and Setters
+    public Duration getHourlyRetention() {
+        return hourlyRetention;
+    }
+
+    public void setHourlyRetention(Duration hourlyRetention) {
+        this.hourlyRetention = hourlyRetention;
+    }
+}
@@ -0,0 +1,64 @@
+package customer.autoescalate_ops.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Component
+@ConfigurationProperties(prefix = "attachments")
+public class AttachmentProperties {
+
+    // Must be absolute, so content never depends on the working directory
+    private Path storageDir = Path.of(System.getProperty("java.io.tmpdir"), "autoescalate-ops", "attachments");
+    private DataSize maxFileSize = DataSize.ofMegabytes(50);
+
+    // Longest edge of generated thumbnails, in pixels
+    private int thumbnailSize = 256;
+
+    // Thumbnails are rendered by a fixed pool; uploads beyond the queue get none
+    private int thumbnailWorkers = 2;
+    private int thumbnailQueueCapacity = 100;
+
+    // Getters and Setters
+    public Path getStorageDir() {
+        return storageDir;
+    }
+
+    public void setStorageDir(Path storageDir) {
+        this.storageDir = storageDir;
+    }
+
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public int getThumbnailSize() {
+        return thumbnailSize;
+    }
+
+    public void setThumbnailSize(int thumbnailSize) {
+        this.thumbnailSize = thumbnailSize;
+    }
+
+    public int getThumbnailWorkers() {
+        return thumbnailWorkers;
+    }
+
+    public void setThumbnailWorkers(int thumbnailWorkers) {
+        this.thumbnailWorkers = thumbnailWorkers;
+    }
+
+    public int getThumbnailQueueCapacity() {
+        return thumbnailQueueCapacity;
+    }
+
+    public void setThumbnailQueueCapacity(int thumbnailQueueCapacity) {
+        this.thumbnailQueueCapacity = thumbnailQueueCapacity;
+    }
+}
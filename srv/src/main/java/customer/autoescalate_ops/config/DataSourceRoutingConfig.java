@@ -0,0 +1,64 @@
+package customer.autoescalate_ops.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits database access into a primary (write) pool and a read pool.
+ * Read-only transactions are routed to the read pool, which may point at a
+ * replica; everything else uses the primary. Each pool is sized and named
+ * separately so it shows up as its own set of Hikari metrics.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.read", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("datasource.read")
+    public DataSourceProperties readDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.read.hikari")
+    public HikariDataSource readDataSource() {
+        return readDataSourceProperties().initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("readDataSource") HikariDataSource readDataSource) {
+        return routingDataSource(primaryDataSource, readDataSource);
+    }
+
+    /**
+     * The physical connection is fetched lazily, after the transaction manager
+     * has marked it read-only, so {@code @Transactional(readOnly = true)}
+     * methods end up on the read pool.
+     */
+    static DataSource routingDataSource(DataSource primaryDataSource, DataSource readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,34 @@
+package customer.autoescalate_ops.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "workflow.callbacks")
+public class WorkflowCallbackProperties {
+
+    // Larger batches are refused with 413 instead of being applied in one transaction
+    private int maxBatchSize = 500;
+
+    // Must exceed the longest time the workflow engine keeps retrying a delivery
+    private Duration eventRetention = Duration.ofDays(30);
+
+    // Getters and Setters
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getEventRetention() {
+        return eventRetention;
+    }
+
+    public void setEventRetention(Duration eventRetention) {
+        this.eventRetention = eventRetention;
+    }
+}
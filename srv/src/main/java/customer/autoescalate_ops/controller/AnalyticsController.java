@@ -0,0 +1,46 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.dto.ResponseTimeReport;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final ResponseTimeRollups responseTimeRollups;
+
+    public AnalyticsController(ResponseTimeRollups responseTimeRollups) {
+        this.responseTimeRollups = responseTimeRollups;
+    }
+
+    @GetMapping("/response-times")
+    public ResponseEntity<List<ResponseTimeReport>> getResponseTimes(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "location", required = false) String location,
+            @RequestParam(name = "type", required = false) String type,
+            @RequestParam(name = "priority", required = false) String priority,
+            @RequestParam(name = "groupBy", required = false) String groupBy) {
+        List<ResponseTimeReport> reports = responseTimeRollups.report(from, to, location, type, priority, groupBy);
+        return ResponseEntity.ok(reports);
+    }
+
+    @PostMapping("/response-times/backfill")
+    public ResponseEntity<Map<String, Long>> backfillResponseTimes() {
+        long issues = responseTimeRollups.backfill();
+        return ResponseEntity.ok(Map.of("issues", issues));
+    }
+
+    // Empty ranges, partial days past the hourly retention and unknown groupBy values are client errors
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,180 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.attachment.AttachmentStore;
+import customer.autoescalate_ops.dto.AttachmentResponse;
+import customer.autoescalate_ops.entity.Attachment;
+import customer.autoescalate_ops.service.AttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api")
+public class AttachmentController {
+
+    // Request attributes of Tomcat's sendfile support, which hands the file to the kernel after the response
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Only these are shown inline; anything else, HTML and SVG included, is downloaded
+    private static final Set<String> INLINE_TYPES = Set.of(
+            MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp");
+
+    private final AttachmentService attachmentService;
+    private final AttachmentStore attachmentStore;
+
+    public AttachmentController(AttachmentService attachmentService, AttachmentStore attachmentStore) {
+        this.attachmentService = attachmentService;
+        this.attachmentStore = attachmentStore;
+    }
+
+    /**
+     * Uploads the raw request body as an attachment. The body is streamed to
+     * disk as it arrives instead of being parsed as multipart or JSON first.
+     */
+    @PostMapping("/issues/{issueId}/attachments")
+    public ResponseEntity<AttachmentResponse> uploadAttachment(
+            @PathVariable("issueId") UUID issueId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam(name = "uploadedById", required = false) UUID uploadedById,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream content) {
+        String fileType = contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        AttachmentResponse attachment;
+        try {
+            attachment = attachmentService.upload(issueId, fileName, fileType, uploadedById, content);
+        } catch (IllegalArgumentException e) {
+            // The store rejects content beyond attachments.max-file-size while streaming it
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(attachment);
+    }
+
+    @GetMapping("/issues/{issueId}/attachments")
+    public ResponseEntity<List<AttachmentResponse>> getAttachments(@PathVariable("issueId") UUID issueId) {
+        List<AttachmentResponse> attachments = attachmentService.getAttachments(issueId);
+        return ResponseEntity.ok(attachments);
+    }
+
+    @GetMapping("/attachments/{id}/content")
+    public void downloadAttachment(@PathVariable("id") UUID id, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getAttachment(id);
+        String contentType = attachment.getFileType() != null
+                ? attachment.getFileType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        ContentDisposition.Builder disposition = isInlineType(contentType)
+                ? ContentDisposition.inline() : ContentDisposition.attachment();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                disposition.filename(attachment.getFileName(), StandardCharsets.UTF_8).build().toString());
+        serve(request, response, attachment.getUrl(), attachment.getSize(), contentType,
+                "\"" + attachment.getChecksum() + "\"");
+    }
+
+    @GetMapping("/attachments/{id}/thumbnail")
+    public void downloadThumbnail(@PathVariable("id") UUID id, HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getAttachment(id);
+        if (attachment.getThumbnailUrl() == null) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        long size = attachmentStore.resolve(attachment.getThumbnailUrl()).toFile().length();
+        serve(request, response, attachment.getThumbnailUrl(), size, MediaType.IMAGE_JPEG_VALUE,
+                "\"thumbnail-" + attachment.getChecksum() + "\"");
+    }
+
+    /**
+     * Writes stored content, or the single byte range asked for, without
+     * copying it through the heap: via Tomcat sendfile where the connector
+     * supports it, otherwise with {@code FileChannel.transferTo}. Multi-range
+     * requests get the whole content.
+     */
+    private void serve(HttpServletRequest request, HttpServletResponse response, String key, long size,
+                       String contentType, String eTag) throws IOException {
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+        response.setContentType(contentType);
+        // Uploaded content types are client-supplied; never let the browser guess a different one
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long start = 0;
+        long length = size;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        List<HttpRange> ranges = ifRange == null || ifRange.equals(eTag)
+                ? parseRanges(request.getHeader(HttpHeaders.RANGE)) : List.of();
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            if (size == 0 || !isSatisfiable(range, size)) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            start = range.getRangeStart(size);
+            length = range.getRangeEnd(size) - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, attachmentStore.resolve(key).toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        attachmentStore.transferTo(key, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private static boolean isInlineType(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return INLINE_TYPES.contains(mediaType.getType() + "/" + mediaType.getSubtype());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static List<HttpRange> parseRanges(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            // Malformed ranges are ignored and the whole content is sent
+            return List.of();
+        }
+    }
+
+    private static boolean isSatisfiable(HttpRange range, long size) {
+        try {
+            return range.getRangeStart(size) < size;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
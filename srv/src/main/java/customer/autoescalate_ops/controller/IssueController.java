@@ -4,9 +4,11 @@ import customer.autoescalate_ops.dto.IssueCreateRequest;
 import customer.autoescalate_ops.dto.IssueResponse;
 import customer.autoescalate_ops.dto.IssueUpdateRequest;
 import customer.autoescalate_ops.service.IssueService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,14 +25,23 @@ public class IssueController {
 
     @GetMapping
     public ResponseEntity<List<IssueResponse>> getAllIssues(
-            @RequestParam(required = false) String status,
-            @RequestParam(required = false) String priority) {
-        List<IssueResponse> issues = issueService.getAllIssues(status, priority);
-        return ResponseEntity.ok(issues);
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "priority", required = false) String priority,
+            WebRequest webRequest) {
+        // Answer unchanged refreshes with 304 from a count/max aggregate, before loading the list
+        IssueService.IssueList issues = issueService.getIssuesIfModified(status, priority, webRequest::checkNotModified);
+        if (issues.issues() == null) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(issues.eTag())
+                .body(issues.issues());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<IssueResponse> getIssueById(@PathVariable UUID id) {
+    public ResponseEntity<IssueResponse> getIssueById(@PathVariable("id") UUID id) {
         IssueResponse issue = issueService.getIssueById(id);
         return ResponseEntity.ok(issue);
     }
@@ -43,7 +54,7 @@ public class IssueController {
 
     @PatchMapping("/{id}")
     public ResponseEntity<IssueResponse> updateIssue(
-            @PathVariable UUID id,
+            @PathVariable("id") UUID id,
             @RequestBody IssueUpdateRequest request) {
         IssueResponse updatedIssue = issueService.updateIssue(id, request);
         return ResponseEntity.ok(updatedIssue);
@@ -0,0 +1,41 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.config.WorkflowCallbackProperties;
+import customer.autoescalate_ops.dto.WorkflowCallbackRequest;
+import customer.autoescalate_ops.dto.WorkflowCallbackResponse;
+import customer.autoescalate_ops.dto.WorkflowEvent;
+import customer.autoescalate_ops.service.WorkflowCallbackService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workflow")
+public class WorkflowCallbackController {
+
+    private final WorkflowCallbackService workflowCallbackService;
+    private final WorkflowCallbackProperties callbackProperties;
+
+    public WorkflowCallbackController(WorkflowCallbackService workflowCallbackService,
+                                      WorkflowCallbackProperties callbackProperties) {
+        this.workflowCallbackService = workflowCallbackService;
+        this.callbackProperties = callbackProperties;
+    }
+
+    @PostMapping("/callbacks")
+    public ResponseEntity<WorkflowCallbackResponse> applyCallbacks(@RequestBody WorkflowCallbackRequest request) {
+        List<WorkflowEvent> events = request.getEvents() != null ? request.getEvents() : List.of();
+        if (events.size() > callbackProperties.getMaxBatchSize()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "At most " + callbackProperties.getMaxBatchSize() + " events per batch");
+        }
+        if (events.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch contains a null event");
+        }
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(events);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,103 @@
+package customer.autoescalate_ops.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class AttachmentResponse {
+
+    private UUID id;
+    private UUID issueId;
+    private String fileName;
+    private String fileType;
+    private Long size;
+    private String checksum;
+    private LocalDateTime createdAt;
+    private UUID uploadedById;
+    private String contentUrl;
+    private String thumbnailUrl;
+
+    // Constructors
+    public AttachmentResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getIssueId() {
+        return issueId;
+    }
+
+    public void setIssueId(UUID issueId) {
+        this.issueId = issueId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public void setFileType(String fileType) {
+        this.fileType = fileType;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public UUID getUploadedById() {
+        return uploadedById;
+    }
+
+    public void setUploadedById(UUID uploadedById) {
+        this.uploadedById = uploadedById;
+    }
+
+    public String getContentUrl() {
+        return contentUrl;
+    }
+
+    public void setContentUrl(String contentUrl) {
+        this.contentUrl = contentUrl;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
@@ -1,5 +1,7 @@
 package customer.autoescalate_ops.dto;
 
+import java.util.UUID;
+
 public class IssueCreateRequest {
 
     private String title;
@@ -8,6 +10,8 @@ public class IssueCreateRequest {
     private String priority;
     private Integer severity;
     private String location;
+    private UUID reporterId;
+    private UUID machineId;
 
     // Constructors
     public IssueCreateRequest() {
@@ -61,4 +65,20 @@ public class IssueCreateRequest {
     public void setLocation(String location) {
         this.location = location;
     }
+
+    public UUID getReporterId() {
+        return reporterId;
+    }
+
+    public void setReporterId(UUID reporterId) {
+        this.reporterId = reporterId;
+    }
+
+    public UUID getMachineId() {
+        return machineId;
+    }
+
+    public void setMachineId(UUID machineId) {
+        this.machineId = machineId;
+    }
 }
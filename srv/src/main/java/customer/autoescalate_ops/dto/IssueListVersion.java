@@ -0,0 +1,13 @@
+package customer.autoescalate_ops.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the aggregate an issue list ETag is built from.
+ */
+public interface IssueListVersion {
+
+    long getCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -17,6 +17,15 @@ public class IssueResponse {
     private LocalDateTime acknowledgedAt;
     private LocalDateTime resolvedAt;
     private String resolutionComment;
+    private Integer escalationLevel;
+    private UUID reporterId;
+    private String reporterName;
+    private UUID assignedTeamId;
+    private String assignedTeamName;
+    private UUID assignedUserId;
+    private String assignedUserName;
+    private UUID machineId;
+    private String machineName;
 
     // Constructors
     public IssueResponse() {
@@ -118,4 +127,76 @@ public class IssueResponse {
     public void setResolutionComment(String resolutionComment) {
         this.resolutionComment = resolutionComment;
     }
+
+    public Integer getEscalationLevel() {
+        return escalationLevel;
+    }
+
+    public void setEscalationLevel(Integer escalationLevel) {
+        this.escalationLevel = escalationLevel;
+    }
+
+    public UUID getReporterId() {
+        return reporterId;
+    }
+
+    public void setReporterId(UUID reporterId) {
+        this.reporterId = reporterId;
+    }
+
+    public String getReporterName() {
+        return reporterName;
+    }
+
+    public void setReporterName(String reporterName) {
+        this.reporterName = reporterName;
+    }
+
+    public UUID getAssignedTeamId() {
+        return assignedTeamId;
+    }
+
+    public void setAssignedTeamId(UUID assignedTeamId) {
+        this.assignedTeamId = assignedTeamId;
+    }
+
+    public String getAssignedTeamName() {
+        return assignedTeamName;
+    }
+
+    public void setAssignedTeamName(String assignedTeamName) {
+        this.assignedTeamName = assignedTeamName;
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(UUID assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
+
+    public String getAssignedUserName() {
+        return assignedUserName;
+    }
+
+    public void setAssignedUserName(String assignedUserName) {
+        this.assignedUserName = assignedUserName;
+    }
+
+    public UUID getMachineId() {
+        return machineId;
+    }
+
+    public void setMachineId(UUID machineId) {
+        this.machineId = machineId;
+    }
+
+    public String getMachineName() {
+        return machineName;
+    }
+
+    public void setMachineName(String machineName) {
+        this.machineName = machineName;
+    }
 }
@@ -0,0 +1,21 @@
+package customer.autoescalate_ops.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the fields needed to rebuild response-time rollups.
+ */
+public interface IssueTimestamps {
+
+    String getLocation();
+
+    String getType();
+
+    String getPriority();
+
+    LocalDateTime getReportedAt();
+
+    LocalDateTime getAcknowledgedAt();
+
+    LocalDateTime getResolvedAt();
+}
@@ -1,9 +1,14 @@
 package customer.autoescalate_ops.dto;
 
+import java.util.UUID;
+
 public class IssueUpdateRequest {
 
     private String status;
     private String resolutionComment;
+    private Integer escalationLevel;
+    private UUID assignedTeamId;
+    private UUID assignedUserId;
 
     // Constructors
     public IssueUpdateRequest() {
@@ -25,4 +30,28 @@ public class IssueUpdateRequest {
     public void setResolutionComment(String resolutionComment) {
         this.resolutionComment = resolutionComment;
     }
+
+    public Integer getEscalationLevel() {
+        return escalationLevel;
+    }
+
+    public void setEscalationLevel(Integer escalationLevel) {
+        this.escalationLevel = escalationLevel;
+    }
+
+    public UUID getAssignedTeamId() {
+        return assignedTeamId;
+    }
+
+    public void setAssignedTeamId(UUID assignedTeamId) {
+        this.assignedTeamId = assignedTeamId;
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(UUID assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
 }
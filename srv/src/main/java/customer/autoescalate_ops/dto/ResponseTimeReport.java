@@ -0,0 +1,57 @@
+package customer.autoescalate_ops.dto;
+
+import java.time.LocalDateTime;
+
+public class ResponseTimeReport {
+
+    private String group;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private ResponseTimeStats acknowledge;
+    private ResponseTimeStats resolve;
+
+    // Constructors
+    public ResponseTimeReport() {
+    }
+
+    // Getters and Setters
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public ResponseTimeStats getAcknowledge() {
+        return acknowledge;
+    }
+
+    public void setAcknowledge(ResponseTimeStats acknowledge) {
+        this.acknowledge = acknowledge;
+    }
+
+    public ResponseTimeStats getResolve() {
+        return resolve;
+    }
+
+    public void setResolve(ResponseTimeStats resolve) {
+        this.resolve = resolve;
+    }
+}
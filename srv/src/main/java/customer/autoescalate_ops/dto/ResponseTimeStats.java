@@ -0,0 +1,55 @@
+package customer.autoescalate_ops.dto;
+
+public class ResponseTimeStats {
+
+    private long count;
+    private Double meanSeconds;
+    private Double p50Seconds;
+    private Double p90Seconds;
+    private Double p99Seconds;
+
+    // Constructors
+    public ResponseTimeStats() {
+    }
+
+    // Getters and Setters
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Double getMeanSeconds() {
+        return meanSeconds;
+    }
+
+    public void setMeanSeconds(Double meanSeconds) {
+        this.meanSeconds = meanSeconds;
+    }
+
+    public Double getP50Seconds() {
+        return p50Seconds;
+    }
+
+    public void setP50Seconds(Double p50Seconds) {
+        this.p50Seconds = p50Seconds;
+    }
+
+    public Double getP90Seconds() {
+        return p90Seconds;
+    }
+
+    public void setP90Seconds(Double p90Seconds) {
+        this.p90Seconds = p90Seconds;
+    }
+
+    public Double getP99Seconds() {
+        return p99Seconds;
+    }
+
+    public void setP99Seconds(Double p99Seconds) {
+        this.p99Seconds = p99Seconds;
+    }
+}
@@ -0,0 +1,21 @@
+package customer.autoescalate_ops.dto;
+
+import java.util.List;
+
+public class WorkflowCallbackRequest {
+
+    private List<WorkflowEvent> events;
+
+    // Constructors
+    public WorkflowCallbackRequest() {
+    }
+
+    // Getters and Setters
+    public List<WorkflowEvent> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<WorkflowEvent> events) {
+        this.events = events;
+    }
+}
@@ -0,0 +1,39 @@
+package customer.autoescalate_ops.dto;
+
+import java.util.List;
+
+public class WorkflowCallbackResponse {
+
+    private int applied;
+    private int duplicates;
+    private List<String> rejectedEventIds;
+
+    // Constructors
+    public WorkflowCallbackResponse() {
+    }
+
+    // Getters and Setters
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public List<String> getRejectedEventIds() {
+        return rejectedEventIds;
+    }
+
+    public void setRejectedEventIds(List<String> rejectedEventIds) {
+        this.rejectedEventIds = rejectedEventIds;
+    }
+}
@@ -0,0 +1,61 @@
+package customer.autoescalate_ops.dto;
+
+import java.util.UUID;
+
+/**
+ * One status change, resolution comment or escalation reported back by a SAP BPA workflow.
+ * {@code eventId} must be unique per event and stable across retries.
+ */
+public class WorkflowEvent {
+
+    private String eventId;
+    private UUID issueId;
+    private String status;
+    private String resolutionComment;
+    private Integer escalationLevel;
+
+    // Constructors
+    public WorkflowEvent() {
+    }
+
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public UUID getIssueId() {
+        return issueId;
+    }
+
+    public void setIssueId(UUID issueId) {
+        this.issueId = issueId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getResolutionComment() {
+        return resolutionComment;
+    }
+
+    public void setResolutionComment(String resolutionComment) {
+        this.resolutionComment = resolutionComment;
+    }
+
+    public Integer getEscalationLevel() {
+        return escalationLevel;
+    }
+
+    public void setEscalationLevel(Integer escalationLevel) {
+        this.escalationLevel = escalationLevel;
+    }
+}
@@ -5,9 +5,19 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "issues")
+@Table(name = "issues", indexes = @Index(name = "idx_issues_status_priority_updated_at",
+        columnList = "status, priority, updated_at"))
+@NamedEntityGraph(name = Issue.WITH_ASSOCIATIONS, attributeNodes = {
+        @NamedAttributeNode("reporter"),
+        @NamedAttributeNode("assignedTeam"),
+        @NamedAttributeNode("assignedUser"),
+        @NamedAttributeNode("machine")
+})
 public class Issue {
 
+    // Fetches all to-one associations with the issue in a single joined select
+    public static final String WITH_ASSOCIATIONS = "Issue.withAssociations";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -41,10 +51,37 @@ public class Issue {
     @Column(length = 1000)
     private String resolutionComment;
 
+    private Integer escalationLevel; // set by the SAP BPA escalation workflow
+
+    // Part of the list ETag; writes that bypass JPA must set it too
+    private LocalDateTime updatedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reporter_id")
+    private User reporter;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_team_id")
+    private Team assignedTeam;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_user_id")
+    private User assignedUser;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "machine_id")
+    private Machine machine;
+
     // Constructors
     public Issue() {
     }
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -141,4 +178,52 @@ public class Issue {
     public void setResolutionComment(String resolutionComment) {
         this.resolutionComment = resolutionComment;
     }
+
+    public Integer getEscalationLevel() {
+        return escalationLevel;
+    }
+
+    public void setEscalationLevel(Integer escalationLevel) {
+        this.escalationLevel = escalationLevel;
+    }
+
+    public User getReporter() {
+        return reporter;
+    }
+
+    public void setReporter(User reporter) {
+        this.reporter = reporter;
+    }
+
+    public Team getAssignedTeam() {
+        return assignedTeam;
+    }
+
+    public void setAssignedTeam(Team assignedTeam) {
+        this.assignedTeam = assignedTeam;
+    }
+
+    public User getAssignedUser() {
+        return assignedUser;
+    }
+
+    public void setAssignedUser(User assignedUser) {
+        this.assignedUser = assignedUser;
+    }
+
+    public Machine getMachine() {
+        return machine;
+    }
+
+    public void setMachine(Machine machine) {
+        this.machine = machine;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,90 @@
+package customer.autoescalate_ops.entity;
+
+import customer.autoescalate_ops.handler.ReferenceDataCacheEntityListener;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Shares the table generated from db/schema.cds (autoescalateOps.Machines), so the
+// names follow the CDS column naming and the key is stored as a UUID string
+@Entity
+@EntityListeners(ReferenceDataCacheEntityListener.class)
+@Table(name = "AUTOESCALATEOPS_MACHINES")
+public class Machine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 36)
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 100)
+    private String location;
+
+    @Column(name = "assettag", length = 100)
+    private String assetTag;
+
+    @Column(name = "isactive")
+    private Boolean active;
+
+    @Column(name = "createdat")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Machine() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getAssetTag() {
+        return assetTag;
+    }
+
+    public void setAssetTag(String assetTag) {
+        this.assetTag = assetTag;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
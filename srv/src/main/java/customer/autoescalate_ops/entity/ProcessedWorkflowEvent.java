@@ -0,0 +1,62 @@
+package customer.autoescalate_ops.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a workflow callback event as applied so that retries from the
+ * workflow engine are recognised and skipped.
+ */
+@Entity
+@Table(name = "processed_workflow_events",
+        indexes = @Index(name = "idx_processed_workflow_events_processed_at", columnList = "processed_at"))
+public class ProcessedWorkflowEvent implements Persistable<String> {
+
+    public static final int MAX_EVENT_ID_LENGTH = 100;
+
+    @Id
+    @Column(length = MAX_EVENT_ID_LENGTH)
+    private String eventId;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+
+    // Constructors
+    public ProcessedWorkflowEvent() {
+    }
+
+    public ProcessedWorkflowEvent(String eventId, LocalDateTime processedAt) {
+        this.eventId = eventId;
+        this.processedAt = processedAt;
+    }
+
+    // Only ever inserted, so saveAll can skip the select-before-insert
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
@@ -0,0 +1,80 @@
+package customer.autoescalate_ops.entity;
+
+import customer.autoescalate_ops.assignment.AssignmentEntityListener;
+import customer.autoescalate_ops.handler.ReferenceDataCacheEntityListener;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Shares the table generated from db/schema.cds (autoescalateOps.Teams), so the
+// names follow the CDS column naming and the key is stored as a UUID string
+@Entity
+@EntityListeners({AssignmentEntityListener.class, ReferenceDataCacheEntityListener.class})
+@Table(name = "AUTOESCALATEOPS_TEAMS")
+public class Team {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 36)
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 255)
+    private String description;
+
+    @Column(name = "defaultissuetypes", length = 255)
+    private String defaultIssueTypes; // e.g. "MACHINE_BREAKDOWN, MAINTENANCE"
+
+    @Column(name = "createdat")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Team() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getDefaultIssueTypes() {
+        return defaultIssueTypes;
+    }
+
+    public void setDefaultIssueTypes(String defaultIssueTypes) {
+        this.defaultIssueTypes = defaultIssueTypes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
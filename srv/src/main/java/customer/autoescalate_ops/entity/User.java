@@ -0,0 +1,103 @@
+package customer.autoescalate_ops.entity;
+
+import customer.autoescalate_ops.assignment.AssignmentEntityListener;
+import customer.autoescalate_ops.handler.ReferenceDataCacheEntityListener;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Shares the table generated from db/schema.cds (autoescalateOps.Users), so the
+// names follow the CDS column naming and the key is stored as a UUID string
+@Entity
+@EntityListeners({AssignmentEntityListener.class, ReferenceDataCacheEntityListener.class})
+@Table(name = "AUTOESCALATEOPS_USERS")
+public class User {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 36)
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 255)
+    private String email;
+
+    @Column(length = 30)
+    private String role; // OPERATOR, SUPERVISOR, MANAGER
+
+    @Column(name = "isactive")
+    private Boolean active;
+
+    @Column(name = "createdat")
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    // Constructors
+    public User() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public void setTeam(Team team) {
+        this.team = team;
+    }
+}
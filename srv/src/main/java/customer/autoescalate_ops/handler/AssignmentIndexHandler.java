@@ -0,0 +1,93 @@
+package customer.autoescalate_ops.handler;
+
+import com.sap.cds.Result;
+import com.sap.cds.Row;
+import com.sap.cds.services.EventContext;
+import com.sap.cds.services.cds.CdsCreateEventContext;
+import com.sap.cds.services.cds.CdsDeleteEventContext;
+import com.sap.cds.services.cds.CdsUpdateEventContext;
+import com.sap.cds.services.cds.CdsUpsertEventContext;
+import com.sap.cds.services.cds.CqnService;
+import com.sap.cds.services.changeset.ChangeSetListener;
+import com.sap.cds.services.handler.EventHandler;
+import com.sap.cds.services.handler.annotations.After;
+import com.sap.cds.services.handler.annotations.ServiceName;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the {@link AssignmentEngine} index current for Teams and Users
+ * written through OData. CAP writes the tables directly, so the engine's JPA
+ * entity listener never sees these changes. Written rows are reloaded once
+ * the change set has committed; deletes and searched updates, whose keys are
+ * not in the result, rebuild the whole index.
+ */
+@Component
+@ServiceName(AutoEscalateEntities.SERVICE)
+public class AssignmentIndexHandler implements EventHandler {
+
+    private final AssignmentEngine assignmentEngine;
+
+    public AssignmentIndexHandler(AssignmentEngine assignmentEngine) {
+        this.assignmentEngine = assignmentEngine;
+    }
+
+    @After(event = CqnService.EVENT_CREATE, entity = {AutoEscalateEntities.TEAMS, AutoEscalateEntities.USERS})
+    public void afterCreate(CdsCreateEventContext context) {
+        refreshAfterClose(context, writtenIds(context.getResult()));
+    }
+
+    @After(event = CqnService.EVENT_UPDATE, entity = {AutoEscalateEntities.TEAMS, AutoEscalateEntities.USERS})
+    public void afterUpdate(CdsUpdateEventContext context) {
+        refreshAfterClose(context, writtenIds(context.getResult()));
+    }
+
+    @After(event = CqnService.EVENT_UPSERT, entity = {AutoEscalateEntities.TEAMS, AutoEscalateEntities.USERS})
+    public void afterUpsert(CdsUpsertEventContext context) {
+        refreshAfterClose(context, writtenIds(context.getResult()));
+    }
+
+    @After(event = CqnService.EVENT_DELETE, entity = {AutoEscalateEntities.TEAMS, AutoEscalateEntities.USERS})
+    public void afterDelete(CdsDeleteEventContext context) {
+        refreshAfterClose(context, null);
+    }
+
+    /**
+     * @param ids keys of the written rows, or {@code null} to rebuild the index
+     */
+    private void refreshAfterClose(EventContext context, Set<UUID> ids) {
+        boolean teams = AutoEscalateEntities.TEAMS.equals(context.getTarget().getQualifiedName());
+        context.getChangeSetContext().register(new ChangeSetListener() {
+            @Override
+            public void afterClose(boolean completed) {
+                if (!completed) {
+                    return;
+                }
+                if (ids == null) {
+                    assignmentEngine.rebuild();
+                } else if (teams) {
+                    assignmentEngine.refresh(ids, List.of());
+                } else {
+                    assignmentEngine.refresh(List.of(), ids);
+                }
+            }
+        });
+    }
+
+    private static Set<UUID> writtenIds(Result result) {
+        Set<UUID> ids = new HashSet<>();
+        for (Row row : result) {
+            Object id = row.get("ID");
+            if (id == null) {
+                return null;
+            }
+            ids.add(UUID.fromString(id.toString()));
+        }
+        return ids;
+    }
+}
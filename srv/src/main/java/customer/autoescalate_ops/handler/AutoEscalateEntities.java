@@ -0,0 +1,18 @@
+package customer.autoescalate_ops.handler;
+
+/**
+ * Qualified names of the CDS service and entities from srv/autoescalate-service.cds.
+ */
+final class AutoEscalateEntities {
+
+    static final String SERVICE = "AutoEscalateService";
+
+    static final String ISSUES = SERVICE + ".Issues";
+    static final String USERS = SERVICE + ".Users";
+    static final String TEAMS = SERVICE + ".Teams";
+    static final String AUDIT_LOGS = SERVICE + ".AuditLogs";
+    static final String MACHINES = SERVICE + ".Machines";
+
+    private AutoEscalateEntities() {
+    }
+}
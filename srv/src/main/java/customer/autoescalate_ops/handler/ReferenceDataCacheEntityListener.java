@@ -0,0 +1,28 @@
+package customer.autoescalate_ops.handler;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Clears the {@link ReferenceDataCacheHandler} cache when Teams, Users or
+ * Machines are written through JPA rather than through the OData service.
+ */
+@Component
+public class ReferenceDataCacheEntityListener {
+
+    private final ObjectProvider<ReferenceDataCacheHandler> cacheHandler;
+
+    public ReferenceDataCacheEntityListener(ObjectProvider<ReferenceDataCacheHandler> cacheHandler) {
+        this.cacheHandler = cacheHandler;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        cacheHandler.ifAvailable(ReferenceDataCacheHandler::invalidateAfterCompletion);
+    }
+}
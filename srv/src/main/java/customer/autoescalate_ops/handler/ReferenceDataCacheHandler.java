@@ -0,0 +1,191 @@
+package customer.autoescalate_ops.handler;
+
+import com.sap.cds.Result;
+import com.sap.cds.ResultBuilder;
+import com.sap.cds.ql.cqn.CqnSelect;
+import com.sap.cds.ql.cqn.CqnSelectListItem;
+import com.sap.cds.services.EventContext;
+import com.sap.cds.services.cds.CdsReadEventContext;
+import com.sap.cds.services.cds.CqnService;
+import com.sap.cds.services.changeset.ChangeSetListener;
+import com.sap.cds.services.handler.EventHandler;
+import com.sap.cds.services.handler.annotations.After;
+import com.sap.cds.services.handler.annotations.HandlerOrder;
+import com.sap.cds.services.handler.annotations.On;
+import com.sap.cds.services.handler.annotations.ServiceName;
+import customer.autoescalate_ops.config.ODataCacheProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches OData reads of the read-mostly reference entities (Teams, Machines,
+ * Users) in memory, keyed by the CQN statement. Any write to one of them
+ * drops the whole cache once the change set is closed, because Users and
+ * Teams reference each other. Nothing is cached while a write is still open,
+ * since a read inside its change set sees rows that are not committed yet.
+ * Writes through JPA are picked up by {@link ReferenceDataCacheEntityListener}.
+ */
+@Component
+@ServiceName(AutoEscalateEntities.SERVICE)
+public class ReferenceDataCacheHandler implements EventHandler {
+
+    private final ODataCacheProperties cacheProperties;
+    private final Map<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so reads that raced with a write are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    // Change sets and JPA transactions that have written and not yet finished
+    private final AtomicInteger openWrites = new AtomicInteger();
+
+    public ReferenceDataCacheHandler(ODataCacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+    }
+
+    @On(event = CqnService.EVENT_READ,
+            entity = {AutoEscalateEntities.TEAMS, AutoEscalateEntities.MACHINES, AutoEscalateEntities.USERS})
+    @HandlerOrder(HandlerOrder.EARLY)
+    public void readCached(CdsReadEventContext context) {
+        CqnSelect select = context.getCqn();
+        if (!cacheProperties.isEnabled() || !isCacheable(select)) {
+            return;
+        }
+
+        String key = cacheKey(context);
+        CachedResult cached = cache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            context.setResult(cached.toResult());
+            return;
+        }
+
+        long readGeneration = generation.get();
+        context.proceed();
+
+        if (readGeneration == generation.get() && openWrites.get() == 0) {
+            if (cache.size() >= cacheProperties.getMaxEntries()) {
+                cache.clear();
+            }
+            cache.put(key, new CachedResult(context.getResult(), cacheProperties.getTtl().toMillis()));
+        }
+    }
+
+    @After(event = {CqnService.EVENT_CREATE, CqnService.EVENT_UPDATE, CqnService.EVENT_UPSERT, CqnService.EVENT_DELETE},
+            entity = {AutoEscalateEntities.TEAMS, AutoEscalateEntities.MACHINES, AutoEscalateEntities.USERS})
+    public void invalidateOnWrite(EventContext context) {
+        openWrites.incrementAndGet();
+        invalidate();
+        context.getChangeSetContext().register(new ChangeSetListener() {
+            @Override
+            public void afterClose(boolean completed) {
+                invalidate();
+                openWrites.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Invalidates now, so that reads racing with the JPA transaction are not
+     * cached, and again once it has finished, when the change is visible.
+     */
+    public void invalidateAfterCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        openWrites.incrementAndGet();
+        invalidate();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate();
+                openWrites.decrementAndGet();
+            }
+        });
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    // Expanded associations can reach Issues, which are not covered by the invalidation
+    private boolean isCacheable(CqnSelect select) {
+        if (select.getLock().isPresent()) {
+            return false;
+        }
+        for (CqnSelectListItem item : select.items()) {
+            if (item.isExpand()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String cacheKey(CdsReadEventContext context) {
+        Map<String, Object> namedValues = context.getCqnNamedValues();
+        String key = context.getCqn().toJson();
+        return namedValues == null || namedValues.isEmpty() ? key : key + namedValues;
+    }
+
+    /**
+     * Holds its own copy of the rows and hands out a fresh copy per read, so
+     * that later handlers of one request cannot change what other requests see.
+     */
+    private static class CachedResult {
+
+        private final List<Map<String, Object>> rows;
+        private final long inlineCount;
+        private final long expiresAt;
+
+        CachedResult(Result result, long ttlMillis) {
+            this.rows = copy(result.list());
+            this.inlineCount = result.inlineCount();
+            this.expiresAt = System.currentTimeMillis() + ttlMillis;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+        Result toResult() {
+            ResultBuilder builder = ResultBuilder.selectedRows(copy(rows));
+            if (inlineCount >= 0) {
+                builder.inlineCount(inlineCount);
+            }
+            return builder.result();
+        }
+
+        private static List<Map<String, Object>> copy(List<? extends Map<String, Object>> rows) {
+            List<Map<String, Object>> copies = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                copies.add(copyValue(row));
+            }
+            return copies;
+        }
+
+        // Structured elements arrive as nested maps and arrays of them as lists
+        @SuppressWarnings("unchecked")
+        private static <T> T copyValue(T value) {
+            if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                map.forEach((key, element) -> copy.put(key, copyValue(element)));
+                return (T) copy;
+            }
+            if (value instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                list.forEach(element -> copy.add(copyValue(element)));
+                return (T) copy;
+            }
+            return value;
+        }
+    }
+}
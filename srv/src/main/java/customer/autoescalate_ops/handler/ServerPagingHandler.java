@@ -0,0 +1,58 @@
+package customer.autoescalate_ops.handler;
+
+import com.sap.cds.ql.CQL;
+import com.sap.cds.ql.Select;
+import com.sap.cds.ql.cqn.CqnSelect;
+import com.sap.cds.ql.cqn.CqnSelectListItem;
+import com.sap.cds.services.cds.CdsReadEventContext;
+import com.sap.cds.services.cds.CqnService;
+import com.sap.cds.services.handler.EventHandler;
+import com.sap.cds.services.handler.annotations.Before;
+import com.sap.cds.services.handler.annotations.ServiceName;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives paged reads of the large, append-mostly entities a stable default order
+ * on an indexed timestamp column (see db/src/*.hdbindex), so that server-driven
+ * paging via {@code @cds.query.limit} walks the index instead of sorting the
+ * whole table. Explicit {@code $orderby} and {@code $filter} are left to the
+ * database as they are.
+ */
+@Component
+@ServiceName(AutoEscalateEntities.SERVICE)
+public class ServerPagingHandler implements EventHandler {
+
+    @Before(event = CqnService.EVENT_READ, entity = AutoEscalateEntities.ISSUES)
+    public void orderIssues(CdsReadEventContext context) {
+        applyDefaultOrder(context, "reportedAt");
+    }
+
+    @Before(event = CqnService.EVENT_READ, entity = AutoEscalateEntities.AUDIT_LOGS)
+    public void orderAuditLogs(CdsReadEventContext context) {
+        applyDefaultOrder(context, "createdAt");
+    }
+
+    private void applyDefaultOrder(CdsReadEventContext context, String timestampElement) {
+        CqnSelect select = context.getCqn();
+        if (!select.orderBy().isEmpty() || !isPlainCollectionRead(select)) {
+            return;
+        }
+
+        context.setCqn(Select.copy(select).orderBy(
+                CQL.get(timestampElement).desc(),
+                CQL.get("ID").asc()));
+    }
+
+    // $count requests and aggregations must not get an ORDER BY on a non-grouped column
+    private boolean isPlainCollectionRead(CqnSelect select) {
+        if (!select.groupBy().isEmpty() || select.having().isPresent()) {
+            return false;
+        }
+        for (CqnSelectListItem item : select.items()) {
+            if (!item.isRef() && !item.isStar() && !item.isExpand()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
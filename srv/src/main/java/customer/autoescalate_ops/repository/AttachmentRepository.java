@@ -0,0 +1,14 @@
+package customer.autoescalate_ops.repository;
+
+import customer.autoescalate_ops.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+
+    List<Attachment> findByIssueIdOrderByCreatedAtAsc(UUID issueId);
+}
@@ -1,18 +1,64 @@
 package customer.autoescalate_ops.repository;
 
+import customer.autoescalate_ops.dto.IssueListVersion;
+import customer.autoescalate_ops.dto.IssueTimestamps;
 import customer.autoescalate_ops.entity.Issue;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, UUID> {
 
+    // List queries load reporter, team, assignee and machine in the same statement
+    @Override
+    @EntityGraph(Issue.WITH_ASSOCIATIONS)
+    List<Issue> findAll();
+
+    @EntityGraph(Issue.WITH_ASSOCIATIONS)
     List<Issue> findByStatus(String status);
 
+    @EntityGraph(Issue.WITH_ASSOCIATIONS)
     List<Issue> findByPriority(String priority);
 
+    @EntityGraph(Issue.WITH_ASSOCIATIONS)
     List<Issue> findByStatusAndPriority(String status, String priority);
+
+    @EntityGraph(Issue.WITH_ASSOCIATIONS)
+    Optional<Issue> findWithAssociationsById(UUID id);
+
+    // List ETag aggregates, one per filter so each can seek the (status, priority, updated_at) index
+    @Query("select count(i) as count, max(i.updatedAt) as lastUpdatedAt from Issue i")
+    IssueListVersion findListVersion();
+
+    @Query("select count(i) as count, max(i.updatedAt) as lastUpdatedAt from Issue i where i.status = :status")
+    IssueListVersion findListVersionByStatus(@Param("status") String status);
+
+    @Query("select count(i) as count, max(i.updatedAt) as lastUpdatedAt from Issue i where i.priority = :priority")
+    IssueListVersion findListVersionByPriority(@Param("priority") String priority);
+
+    @Query("select count(i) as count, max(i.updatedAt) as lastUpdatedAt from Issue i "
+            + "where i.status = :status and i.priority = :priority")
+    IssueListVersion findListVersionByStatusAndPriority(@Param("status") String status,
+                                                        @Param("priority") String priority);
+
+    // closedStatuses must be upper case; issues without a status count as open
+    @Query("select i.assignedUser.id, count(i) from Issue i "
+            + "where i.assignedUser is not null and (i.status is null or upper(i.status) not in :closedStatuses) "
+            + "group by i.assignedUser.id")
+    List<Object[]> countOpenIssuesByAssignee(@Param("closedStatuses") Collection<String> closedStatuses);
+
+    @Query("select i.location as location, i.type as type, i.priority as priority, "
+            + "i.reportedAt as reportedAt, i.acknowledgedAt as acknowledgedAt, i.resolvedAt as resolvedAt "
+            + "from Issue i where i.reportedAt is not null "
+            + "and (i.acknowledgedAt is not null or i.resolvedAt is not null)")
+    Stream<IssueTimestamps> streamResponseTimes();
 }
@@ -0,0 +1,23 @@
+package customer.autoescalate_ops.repository;
+
+import customer.autoescalate_ops.entity.ProcessedWorkflowEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+@Repository
+public interface ProcessedWorkflowEventRepository extends JpaRepository<ProcessedWorkflowEvent, String> {
+
+    @Query("select e.eventId from ProcessedWorkflowEvent e where e.eventId in :eventIds")
+    Set<String> findProcessedEventIds(@Param("eventIds") Collection<String> eventIds);
+
+    @Modifying
+    @Query("delete from ProcessedWorkflowEvent e where e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,11 @@
+package customer.autoescalate_ops.repository;
+
+import customer.autoescalate_ops.entity.Team;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TeamRepository extends JpaRepository<Team, UUID> {
+}
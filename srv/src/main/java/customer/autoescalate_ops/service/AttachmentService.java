@@ -0,0 +1,132 @@
+package customer.autoescalate_ops.service;
+
+import customer.autoescalate_ops.attachment.AttachmentStore;
+import customer.autoescalate_ops.attachment.ThumbnailGenerator;
+import customer.autoescalate_ops.config.AttachmentProperties;
+import customer.autoescalate_ops.dto.AttachmentResponse;
+import customer.autoescalate_ops.entity.Attachment;
+import customer.autoescalate_ops.repository.AttachmentRepository;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class AttachmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentService.class);
+
+    private final AttachmentRepository attachmentRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final AttachmentStore attachmentStore;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final AttachmentProperties attachmentProperties;
+
+    public AttachmentService(AttachmentRepository attachmentRepository, IssueRepository issueRepository,
+                             UserRepository userRepository, AttachmentStore attachmentStore,
+                             ThumbnailGenerator thumbnailGenerator, AttachmentProperties attachmentProperties) {
+        this.attachmentRepository = attachmentRepository;
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.attachmentStore = attachmentStore;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.attachmentProperties = attachmentProperties;
+    }
+
+    /**
+     * Streams an upload to the attachment store and records it against the
+     * issue. Deliberately not transactional, and open-in-view is off: no
+     * connection is held while the client sends the content, only for the
+     * checks before and the insert that follows.
+     */
+    public AttachmentResponse upload(UUID issueId, String fileName, String fileType, UUID uploadedById,
+                                     InputStream content) {
+        if (!issueRepository.existsById(issueId)) {
+            throw new RuntimeException("Issue not found with id: " + issueId);
+        }
+        if (uploadedById != null && !userRepository.existsById(uploadedById)) {
+            throw new RuntimeException("User not found with id: " + uploadedById);
+        }
+
+        AttachmentStore.StoredContent stored;
+        try {
+            stored = attachmentStore.store(content, attachmentProperties.getMaxFileSize().toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store attachment " + fileName, e);
+        }
+
+        Attachment attachment = new Attachment();
+        attachment.setUrl(stored.key());
+        attachment.setFileName(fileName);
+        attachment.setFileType(fileType);
+        attachment.setSize(stored.size());
+        attachment.setChecksum(stored.checksum());
+        attachment.setCreatedAt(LocalDateTime.now());
+        attachment.setIssue(issueRepository.getReferenceById(issueId));
+        if (uploadedById != null) {
+            attachment.setUploadedBy(userRepository.getReferenceById(uploadedById));
+        }
+
+        Attachment savedAttachment;
+        try {
+            savedAttachment = attachmentRepository.save(attachment);
+        } catch (RuntimeException e) {
+            deleteQuietly(stored.key());
+            throw e;
+        }
+
+        thumbnailGenerator.requestThumbnail(savedAttachment.getId(), stored.key(), fileType);
+        return toResponse(savedAttachment);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getAttachments(UUID issueId) {
+        return attachmentRepository.findByIssueIdOrderByCreatedAtAsc(issueId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Attachment getAttachment(UUID id) {
+        return attachmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Attachment not found with id: " + id));
+    }
+
+    private AttachmentResponse toResponse(Attachment attachment) {
+        AttachmentResponse response = new AttachmentResponse();
+        response.setId(attachment.getId());
+        response.setIssueId(attachment.getIssue().getId());
+        response.setFileName(attachment.getFileName());
+        response.setFileType(attachment.getFileType());
+        response.setSize(attachment.getSize());
+        response.setChecksum(attachment.getChecksum());
+        response.setCreatedAt(attachment.getCreatedAt());
+        response.setContentUrl("/api/attachments/" + attachment.getId() + "/content");
+        if (attachment.getThumbnailUrl() != null) {
+            response.setThumbnailUrl("/api/attachments/" + attachment.getId() + "/thumbnail");
+        }
+        if (attachment.getUploadedBy() != null) {
+            response.setUploadedById(attachment.getUploadedBy().getId());
+        }
+        return response;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            attachmentStore.delete(key);
+        } catch (IOException e) {
+            logger.warn("Failed to delete orphaned attachment content {}: {}", key, e.getMessage());
+        }
+    }
+}
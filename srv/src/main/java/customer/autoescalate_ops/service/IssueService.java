@@ -1,29 +1,87 @@
 package customer.autoescalate_ops.service;
 
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
 import customer.autoescalate_ops.dto.IssueCreateRequest;
+import customer.autoescalate_ops.dto.IssueListVersion;
 import customer.autoescalate_ops.dto.IssueResponse;
 import customer.autoescalate_ops.dto.IssueUpdateRequest;
 import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.Machine;
+import customer.autoescalate_ops.entity.Team;
+import customer.autoescalate_ops.entity.User;
 import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.MachineRepository;
+import customer.autoescalate_ops.repository.TeamRepository;
+import customer.autoescalate_ops.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
 public class IssueService {
 
     private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final MachineRepository machineRepository;
     private final SPAClient spaClient;
+    private final AssignmentEngine assignmentEngine;
+    private final ResponseTimeRollups responseTimeRollups;
 
-    public IssueService(IssueRepository issueRepository, SPAClient spaClient) {
+    public IssueService(IssueRepository issueRepository, UserRepository userRepository,
+                        TeamRepository teamRepository, MachineRepository machineRepository,
+                        SPAClient spaClient, AssignmentEngine assignmentEngine,
+                        ResponseTimeRollups responseTimeRollups) {
         this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.machineRepository = machineRepository;
         this.spaClient = spaClient;
+        this.assignmentEngine = assignmentEngine;
+        this.responseTimeRollups = responseTimeRollups;
     }
 
+    /**
+     * Loads the issue list unless {@code notModified} accepts its ETag. The
+     * ETag is built from the rows themselves: the number of matching issues
+     * and their latest {@code updatedAt}. Any write that changes the list
+     * changes one of the two, whichever instance or path made it. Tag and list
+     * are read in one transaction, so a lagging read replica yields the older
+     * tag along with the older rows.
+     *
+     * @return the ETag, with {@code null} issues when the client's copy is current
+     */
+    @Transactional(readOnly = true)
+    public IssueList getIssuesIfModified(String status, String priority, Predicate<String> notModified) {
+        String eTag = getIssuesETag(status, priority);
+        if (notModified.test(eTag)) {
+            return new IssueList(eTag, null);
+        }
+        return new IssueList(eTag, getAllIssues(status, priority));
+    }
+
+    private String getIssuesETag(String status, String priority) {
+        IssueListVersion version;
+        if (status != null && priority != null) {
+            version = issueRepository.findListVersionByStatusAndPriority(status, priority);
+        } else if (status != null) {
+            version = issueRepository.findListVersionByStatus(status);
+        } else if (priority != null) {
+            version = issueRepository.findListVersionByPriority(priority);
+        } else {
+            version = issueRepository.findListVersion();
+        }
+        LocalDateTime lastUpdatedAt = version.getLastUpdatedAt();
+        return "\"issues-" + version.getCount() + "-" + (lastUpdatedAt != null ? lastUpdatedAt : "none") + "\"";
+    }
+
+    @Transactional(readOnly = true)
     public List<IssueResponse> getAllIssues(String status, String priority) {
         List<Issue> issues;
 
@@ -42,8 +100,9 @@ public class IssueService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public IssueResponse getIssueById(UUID id) {
-        Issue issue = issueRepository.findById(id)
+        Issue issue = issueRepository.findWithAssociationsById(id)
                 .orElseThrow(() -> new RuntimeException("Issue not found with id: " + id));
         return toResponse(issue);
     }
@@ -57,22 +116,46 @@ public class IssueService {
         issue.setPriority(request.getPriority());
         issue.setSeverity(request.getSeverity());
         issue.setLocation(request.getLocation());
+        if (request.getReporterId() != null) {
+            issue.setReporter(findUser(request.getReporterId()));
+        }
+        if (request.getMachineId() != null) {
+            issue.setMachine(findMachine(request.getMachineId()));
+        }
         issue.setStatus("New");
         issue.setReportedAt(LocalDateTime.now());
+        AssignmentEngine.Assignment assignment = assignmentEngine.assign(issue);
 
         Issue savedIssue = issueRepository.save(issue);
 
         // Trigger SAP Build Process Automation workflow
         spaClient.startWorkflow(savedIssue);
 
-        return toResponse(savedIssue);
+        return toResponse(savedIssue, assignment);
     }
 
     @Transactional
     public IssueResponse updateIssue(UUID id, IssueUpdateRequest request) {
-        Issue issue = issueRepository.findById(id)
+        Issue issue = issueRepository.findWithAssociationsById(id)
                 .orElseThrow(() -> new RuntimeException("Issue not found with id: " + id));
 
+        applyUpdate(issue, request);
+
+        Issue updatedIssue = issueRepository.save(issue);
+        return toResponse(updatedIssue);
+    }
+
+    /**
+     * Applies an update to a loaded issue and records the change for assignment
+     * load and response-time rollups. Saving is left to the caller,
+     * so several issues can be updated and flushed together.
+     */
+    public void applyUpdate(Issue issue, IssueUpdateRequest request) {
+        String oldStatus = issue.getStatus();
+        UUID oldAssigneeId = issue.getAssignedUser() != null ? issue.getAssignedUser().getId() : null;
+        LocalDateTime oldAcknowledgedAt = issue.getAcknowledgedAt();
+        LocalDateTime oldResolvedAt = issue.getResolvedAt();
+
         if (request.getStatus() != null) {
             issue.setStatus(request.getStatus());
 
@@ -88,11 +171,33 @@ public class IssueService {
             issue.setResolutionComment(request.getResolutionComment());
         }
 
-        Issue updatedIssue = issueRepository.save(issue);
-        return toResponse(updatedIssue);
+        if (request.getEscalationLevel() != null) {
+            issue.setEscalationLevel(request.getEscalationLevel());
+        }
+
+        if (request.getAssignedTeamId() != null) {
+            issue.setAssignedTeam(findTeam(request.getAssignedTeamId()));
+        }
+
+        if (request.getAssignedUserId() != null) {
+            issue.setAssignedUser(findUser(request.getAssignedUserId()));
+        }
+
+        assignmentEngine.issueUpdated(oldAssigneeId, oldStatus,
+                issue.getAssignedUser() != null ? issue.getAssignedUser().getId() : null,
+                issue.getStatus());
+        responseTimeRollups.timestampsChanged(issue, oldAcknowledgedAt, oldResolvedAt);
     }
 
     private IssueResponse toResponse(Issue issue) {
+        return toResponse(issue, null);
+    }
+
+    /**
+     * @param assignment the engine's assignment of a new issue, whose names are
+     *                   used instead of loading the referenced team and user
+     */
+    private IssueResponse toResponse(Issue issue, AssignmentEngine.Assignment assignment) {
         IssueResponse response = new IssueResponse();
         response.setId(issue.getId());
         response.setTitle(issue.getTitle());
@@ -106,6 +211,51 @@ public class IssueService {
         response.setAcknowledgedAt(issue.getAcknowledgedAt());
         response.setResolvedAt(issue.getResolvedAt());
         response.setResolutionComment(issue.getResolutionComment());
+        response.setEscalationLevel(issue.getEscalationLevel());
+        if (issue.getReporter() != null) {
+            response.setReporterId(issue.getReporter().getId());
+            response.setReporterName(issue.getReporter().getName());
+        }
+        if (assignment != null) {
+            response.setAssignedTeamId(assignment.teamId());
+            response.setAssignedTeamName(assignment.teamName());
+            response.setAssignedUserId(assignment.userId());
+            response.setAssignedUserName(assignment.userName());
+        } else {
+            if (issue.getAssignedTeam() != null) {
+                response.setAssignedTeamId(issue.getAssignedTeam().getId());
+                response.setAssignedTeamName(issue.getAssignedTeam().getName());
+            }
+            if (issue.getAssignedUser() != null) {
+                response.setAssignedUserId(issue.getAssignedUser().getId());
+                response.setAssignedUserName(issue.getAssignedUser().getName());
+            }
+        }
+        if (issue.getMachine() != null) {
+            response.setMachineId(issue.getMachine().getId());
+            response.setMachineName(issue.getMachine().getName());
+        }
         return response;
     }
+
+    private User findUser(UUID id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+    }
+
+    private Team findTeam(UUID id) {
+        return teamRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Team not found with id: " + id));
+    }
+
+    private Machine findMachine(UUID id) {
+        return machineRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Machine not found with id: " + id));
+    }
+
+    /**
+     * An issue list with the ETag it was read under.
+     */
+    public record IssueList(String eTag, List<IssueResponse> issues) {
+    }
 }
@@ -0,0 +1,151 @@
+package customer.autoescalate_ops.service;
+
+import customer.autoescalate_ops.config.WorkflowCallbackProperties;
+import customer.autoescalate_ops.dto.IssueUpdateRequest;
+import customer.autoescalate_ops.dto.WorkflowCallbackResponse;
+import customer.autoescalate_ops.dto.WorkflowEvent;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.ProcessedWorkflowEvent;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.ProcessedWorkflowEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies batches of SAP BPA workflow callback events. A batch is handled in
+ * one transaction: processed event IDs and affected issues are each read with
+ * a single query, and the resulting updates and event markers are flushed as
+ * JDBC batches. Events already seen are skipped, so the workflow engine can
+ * safely retry a whole batch, even while the first delivery is still being
+ * applied. Event markers are kept for {@code workflow.callbacks.event-retention}.
+ */
+@Service
+public class WorkflowCallbackService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowCallbackService.class);
+
+    private final IssueRepository issueRepository;
+    private final ProcessedWorkflowEventRepository processedEventRepository;
+    private final IssueService issueService;
+    private final WorkflowCallbackProperties callbackProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public WorkflowCallbackService(IssueRepository issueRepository,
+                                   ProcessedWorkflowEventRepository processedEventRepository,
+                                   IssueService issueService,
+                                   WorkflowCallbackProperties callbackProperties,
+                                   PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.processedEventRepository = processedEventRepository;
+        this.issueService = issueService;
+        this.callbackProperties = callbackProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Applies the batch in one transaction. If a concurrent delivery of the
+     * same events commits first, this one fails on the event key and is rolled
+     * back; it is then applied once more, and those events count as duplicates.
+     */
+    public WorkflowCallbackResponse applyEvents(List<WorkflowEvent> events) {
+        try {
+            return transactionTemplate.execute(status -> applyBatch(events));
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Workflow events were applied concurrently, retrying batch against committed events");
+            return transactionTemplate.execute(status -> applyBatch(events));
+        }
+    }
+
+    @Scheduled(cron = "${workflow.callbacks.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeProcessedEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(callbackProperties.getEventRetention());
+        int purged = processedEventRepository.deleteProcessedBefore(cutoff);
+        logger.info("Purged {} workflow event markers processed before {}", purged, cutoff);
+    }
+
+    private WorkflowCallbackResponse applyBatch(List<WorkflowEvent> events) {
+        List<String> rejectedEventIds = new ArrayList<>();
+        int duplicates = 0;
+
+        // Keep the first occurrence of each event ID, in arrival order
+        Map<String, WorkflowEvent> batch = new LinkedHashMap<>();
+        for (WorkflowEvent event : events) {
+            if (!isValidEventId(event.getEventId()) || event.getIssueId() == null) {
+                rejectedEventIds.add(event.getEventId());
+            } else if (batch.putIfAbsent(event.getEventId(), event) != null) {
+                duplicates++;
+            }
+        }
+
+        Set<String> processed = batch.isEmpty()
+                ? Set.of()
+                : processedEventRepository.findProcessedEventIds(batch.keySet());
+        duplicates += processed.size();
+        batch.keySet().removeAll(processed);
+
+        Set<UUID> issueIds = batch.values().stream()
+                .map(WorkflowEvent::getIssueId)
+                .collect(Collectors.toSet());
+        Map<UUID, Issue> issues = issueRepository.findAllById(issueIds).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+
+        Set<Issue> updatedIssues = new LinkedHashSet<>();
+        List<ProcessedWorkflowEvent> appliedEvents = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (WorkflowEvent event : batch.values()) {
+            Issue issue = issues.get(event.getIssueId());
+            if (issue == null) {
+                rejectedEventIds.add(event.getEventId());
+                continue;
+            }
+            issueService.applyUpdate(issue, toUpdateRequest(event));
+            updatedIssues.add(issue);
+            appliedEvents.add(new ProcessedWorkflowEvent(event.getEventId(), now));
+        }
+
+        issueRepository.saveAll(updatedIssues);
+        // Flush here so that a key violation from a concurrent delivery surfaces before commit
+        processedEventRepository.saveAllAndFlush(appliedEvents);
+
+        if (!rejectedEventIds.isEmpty()) {
+            logger.warn("Rejected {} workflow events: {}", rejectedEventIds.size(), rejectedEventIds);
+        }
+
+        WorkflowCallbackResponse response = new WorkflowCallbackResponse();
+        response.setApplied(appliedEvents.size());
+        response.setDuplicates(duplicates);
+        response.setRejectedEventIds(rejectedEventIds);
+        return response;
+    }
+
+    // An ID that does not fit the marker key would fail the flush and, with it, the whole batch
+    private static boolean isValidEventId(String eventId) {
+        return eventId != null && !eventId.isBlank() && eventId.length() <= ProcessedWorkflowEvent.MAX_EVENT_ID_LENGTH;
+    }
+
+    private IssueUpdateRequest toUpdateRequest(WorkflowEvent event) {
+        IssueUpdateRequest request = new IssueUpdateRequest();
+        request.setStatus(event.getStatus());
+        request.setResolutionComment(event.getResolutionComment());
+        request.setEscalationLevel(event.getEscalationLevel());
+        return request;
+    }
+}
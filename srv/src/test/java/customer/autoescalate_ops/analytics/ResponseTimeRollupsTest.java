@@ -0,0 +1,219 @@
+package customer.autoescalate_ops.analytics;
+
+import customer.autoescalate_ops.config.AnalyticsProperties;
+import customer.autoescalate_ops.dto.IssueTimestamps;
+import customer.autoescalate_ops.dto.ResponseTimeReport;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseTimeRollupsTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private ResponseTimeRollups rollups;
+
+    private LocalDateTime today;
+
+    @BeforeEach
+    void setUp() {
+        rollups = new ResponseTimeRollups(issueRepository, new AnalyticsProperties());
+        today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+    }
+
+    @Test
+    void backfill_ShouldAnswerRangesFromDailyAndHourlyRollups() {
+        // Arrange - 100 issues acknowledged after 1..100 minutes, spread over three days
+        List<IssueTimestamps> history = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            LocalDateTime reportedAt = today.minusDays(i % 3).plusHours(10);
+            history.add(timestamps("Plant A", "High", reportedAt, reportedAt.plusMinutes(i), null));
+        }
+        when(issueRepository.streamResponseTimes()).thenReturn(history.stream());
+
+        // Act
+        long issues = rollups.backfill();
+        List<ResponseTimeReport> reports = rollups.report(today.minusDays(2).plusHours(5), today.plusDays(1),
+                null, null, null, null);
+
+        // Assert
+        assertEquals(100, issues);
+        assertEquals(1, reports.size());
+        ResponseTimeReport report = reports.get(0);
+        assertEquals(100, report.getAcknowledge().getCount());
+        assertEquals(50.5 * 60, report.getAcknowledge().getMeanSeconds(), 0.001);
+        assertEquals(50 * 60, report.getAcknowledge().getP50Seconds(), 50 * 60 * 0.02);
+        assertEquals(99 * 60, report.getAcknowledge().getP99Seconds(), 99 * 60 * 0.02);
+        assertEquals(0, report.getResolve().getCount());
+    }
+
+    @Test
+    void report_ShouldRejectPartialDaysBeyondHourlyRetention() {
+        // Arrange
+        LocalDateTime longAgo = today.minusDays(120);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> rollups.report(longAgo.plusHours(6), longAgo.plusDays(3), null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> rollups.report(longAgo, today.minusDays(100).plusHours(6), null, null, null, null));
+        assertDoesNotThrow(() -> rollups.report(longAgo, today.plusHours(6), null, null, null, null));
+    }
+
+    @Test
+    void report_ShouldFilterAndGroupByDimension() {
+        // Arrange
+        LocalDateTime reportedAt = today.plusHours(8);
+        Stream<IssueTimestamps> history = Stream.of(
+                timestamps("Plant A", "High", reportedAt, reportedAt.plusMinutes(5), reportedAt.plusHours(2)),
+                timestamps("Plant B", "High", reportedAt, reportedAt.plusMinutes(15), null),
+                timestamps("Plant B", "Low", reportedAt, reportedAt.plusMinutes(30), null));
+        when(issueRepository.streamResponseTimes()).thenReturn(history);
+        rollups.backfill();
+
+        // Act
+        List<ResponseTimeReport> reports = rollups.report(today, today.plusDays(1), null, null, "High", "location");
+
+        // Assert
+        assertEquals(2, reports.size());
+        assertEquals("Plant A", reports.get(0).getGroup());
+        assertEquals(1, reports.get(0).getResolve().getCount());
+        assertEquals("Plant B", reports.get(1).getGroup());
+        assertEquals(15 * 60, reports.get(1).getAcknowledge().getMeanSeconds(), 0.001);
+    }
+
+    @Test
+    void timestampsChanged_ShouldMoveRestampedResolution() {
+        // Arrange
+        Issue issue = new Issue();
+        issue.setLocation("Plant A");
+        issue.setReportedAt(today.plusHours(8));
+        issue.setResolvedAt(today.plusHours(9));
+        rollups.timestampsChanged(issue, null, null);
+
+        // Act - closing a resolved issue stamps resolvedAt again
+        LocalDateTime firstResolvedAt = issue.getResolvedAt();
+        issue.setResolvedAt(today.plusHours(12));
+        rollups.timestampsChanged(issue, null, firstResolvedAt);
+
+        // Assert
+        ResponseTimeReport report = rollups.report(today, today.plusDays(1), null, null, null, null).get(0);
+        assertEquals(1, report.getResolve().getCount());
+        assertEquals(4 * 3600, report.getResolve().getMeanSeconds(), 0.001);
+    }
+
+    @Test
+    void timestampsChanged_ShouldIgnoreRemovalOfUnrecordedSample() {
+        // Arrange
+        Issue first = new Issue();
+        first.setLocation("Plant A");
+        first.setReportedAt(today.plusHours(8));
+        first.setResolvedAt(today.plusHours(9));
+        rollups.timestampsChanged(first, null, null);
+
+        // Act - the old resolution of the second issue was never recorded
+        Issue second = new Issue();
+        second.setLocation("Plant A");
+        second.setReportedAt(today.plusHours(8));
+        second.setResolvedAt(today.plusHours(12));
+        rollups.timestampsChanged(second, null, today.plusHours(10));
+
+        // Assert
+        ResponseTimeReport report = rollups.report(today, today.plusDays(1), null, null, null, null).get(0);
+        assertEquals(2, report.getResolve().getCount());
+        assertEquals(2.5 * 3600, report.getResolve().getMeanSeconds(), 0.001);
+        assertEquals(1 * 3600, report.getResolve().getP50Seconds(), 3600 * 0.02);
+    }
+
+    @Test
+    void backfill_ShouldKeepUpdateCommittedWhileRebuilding() throws Exception {
+        // Arrange - the backfill read blocks until released
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LocalDateTime reportedAt = today.plusHours(8);
+        IssueTimestamps stored = timestamps("Plant B", "High", reportedAt, reportedAt.plusMinutes(5), null);
+        when(issueRepository.streamResponseTimes()).thenReturn(Stream.generate(() -> {
+            reading.countDown();
+            awaitQuietly(release);
+            return stored;
+        }).limit(1));
+        Issue issue = new Issue();
+        issue.setLocation("Plant A");
+        issue.setReportedAt(reportedAt);
+        issue.setAcknowledgedAt(reportedAt.plusMinutes(10));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act - an update commits after the backfill has read the issues
+            Future<Long> backfill = executor.submit(rollups::backfill);
+            reading.await();
+            Future<?> commit = executor.submit(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    rollups.timestampsChanged(issue, null, null);
+                    TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                    TransactionSynchronizationUtils.triggerAfterCommit();
+                    TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                } finally {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            });
+            assertThrows(TimeoutException.class, () -> commit.get(200, TimeUnit.MILLISECONDS));
+            release.countDown();
+            backfill.get();
+            commit.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        List<ResponseTimeReport> reports = rollups.report(today, today.plusDays(1), null, null, null, "location");
+        assertEquals(2, reports.size());
+        assertEquals("Plant A", reports.get(0).getGroup());
+        assertEquals(1, reports.get(0).getAcknowledge().getCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IssueTimestamps timestamps(String location, String priority, LocalDateTime reportedAt,
+                                       LocalDateTime acknowledgedAt, LocalDateTime resolvedAt) {
+        IssueTimestamps timestamps = mock(IssueTimestamps.class);
+        lenient().when(timestamps.getLocation()).thenReturn(location);
+        lenient().when(timestamps.getType()).thenReturn("MACHINE_BREAKDOWN");
+        lenient().when(timestamps.getPriority()).thenReturn(priority);
+        lenient().when(timestamps.getReportedAt()).thenReturn(reportedAt);
+        lenient().when(timestamps.getAcknowledgedAt()).thenReturn(acknowledgedAt);
+        lenient().when(timestamps.getResolvedAt()).thenReturn(resolvedAt);
+        return timestamps;
+    }
+}
@@ -0,0 +1,244 @@
+package customer.autoescalate_ops.assignment;
+
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.Team;
+import customer.autoescalate_ops.entity.User;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.TeamRepository;
+import customer.autoescalate_ops.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentEngineTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AssignmentEngine assignmentEngine;
+
+    private Team maintenance;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        maintenance = team("MACHINE_BREAKDOWN, maintenance");
+        alice = user(maintenance, true);
+        bob = user(maintenance, true);
+
+        lenient().when(userRepository.getReferenceById(any(UUID.class))).thenAnswer(invocation -> {
+            User reference = new User();
+            reference.setId(invocation.getArgument(0));
+            return reference;
+        });
+        lenient().when(teamRepository.getReferenceById(any(UUID.class))).thenAnswer(invocation -> {
+            Team reference = new Team();
+            reference.setId(invocation.getArgument(0));
+            return reference;
+        });
+    }
+
+    @Test
+    void assign_ShouldPickLeastLoadedActiveMember() {
+        // Arrange
+        List<Object[]> openIssues = new ArrayList<>();
+        openIssues.add(new Object[]{alice.getId(), 3L});
+        openIssues.add(new Object[]{bob.getId(), 1L});
+        rebuild(openIssues, alice, bob);
+
+        // Act
+        Issue issue = issue("MACHINE_BREAKDOWN");
+        AssignmentEngine.Assignment assignment = assignmentEngine.assign(issue);
+
+        // Assert
+        assertNotNull(assignment);
+        assertEquals(bob.getId(), issue.getAssignedUser().getId());
+        assertEquals(maintenance.getId(), issue.getAssignedTeam().getId());
+    }
+
+    @Test
+    void assign_ShouldBalanceLoadAcrossMembers() {
+        // Arrange
+        rebuild(Collections.emptyList(), alice, bob);
+
+        // Act
+        int aliceCount = 0;
+        for (int i = 0; i < 10; i++) {
+            Issue issue = issue("maintenance");
+            assignmentEngine.assign(issue);
+            if (issue.getAssignedUser().getId().equals(alice.getId())) {
+                aliceCount++;
+            }
+        }
+
+        // Assert
+        assertEquals(5, aliceCount);
+    }
+
+    @Test
+    void assign_ShouldSkipInactiveUsersAndUnknownTypes() {
+        // Arrange
+        alice.setActive(false);
+        rebuild(Collections.emptyList(), alice);
+
+        // Act & Assert
+        assertNull(assignmentEngine.assign(issue("MACHINE_BREAKDOWN")));
+        assertNull(assignmentEngine.assign(issue("QUALITY_DEFECT")));
+    }
+
+    @Test
+    void teamChanged_ShouldUpdateIndexIncrementally() {
+        // Arrange
+        rebuild(Collections.emptyList(), alice);
+
+        // Act
+        maintenance.setDefaultIssueTypes("QUALITY_DEFECT");
+        assignmentEngine.teamChanged(maintenance);
+
+        // Assert
+        assertNull(assignmentEngine.assign(issue("MACHINE_BREAKDOWN")));
+        assertNotNull(assignmentEngine.assign(issue("QUALITY_DEFECT")));
+    }
+
+    @Test
+    void teamRemoved_ShouldDropMembersFromRecreatedTeam() {
+        // Arrange
+        rebuild(Collections.emptyList(), alice);
+
+        // Act
+        assignmentEngine.teamRemoved(maintenance);
+        assignmentEngine.teamChanged(maintenance);
+
+        // Assert
+        assertNull(assignmentEngine.assign(issue("MACHINE_BREAKDOWN")));
+    }
+
+    @Test
+    void refresh_ShouldReloadWrittenTeamsAndUsers() {
+        // Arrange
+        rebuild(Collections.emptyList());
+        when(teamRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
+        when(userRepository.findById(alice.getId())).thenReturn(Optional.of(alice));
+        when(userRepository.findById(bob.getId())).thenReturn(Optional.empty());
+
+        // Act
+        assignmentEngine.refresh(List.of(maintenance.getId()), List.of(alice.getId(), bob.getId()));
+        Issue issue = issue("MACHINE_BREAKDOWN");
+        assignmentEngine.assign(issue);
+
+        // Assert
+        assertEquals(alice.getId(), issue.getAssignedUser().getId());
+    }
+
+    @Test
+    void assign_ShouldReturnIndexedNames() {
+        // Arrange
+        bob.setName("Bob");
+        rebuild(Collections.emptyList(), bob);
+
+        // Act
+        AssignmentEngine.Assignment assignment = assignmentEngine.assign(issue("MACHINE_BREAKDOWN"));
+
+        // Assert
+        assertEquals(new AssignmentEngine.Assignment(bob.getId(), "Bob", maintenance.getId(), "Maintenance"),
+                assignment);
+    }
+
+    @Test
+    void rebuild_ShouldKeepLoadChangesMadeWhileReading() {
+        // Arrange - alice gets an issue after the open-issue counts were read
+        when(issueRepository.countOpenIssuesByAssignee(any())).thenAnswer(invocation -> {
+            assignmentEngine.issueUpdated(null, null, alice.getId(), "New");
+            return Collections.emptyList();
+        });
+        when(teamRepository.findAll()).thenReturn(List.of(maintenance));
+        when(userRepository.findAll()).thenReturn(List.of(alice, bob));
+
+        // Act
+        assignmentEngine.rebuild();
+        Issue issue = issue("MACHINE_BREAKDOWN");
+        assignmentEngine.assign(issue);
+
+        // Assert
+        assertEquals(bob.getId(), issue.getAssignedUser().getId());
+    }
+
+    @Test
+    void isOpen_ShouldTreatMissingStatusAsOpenAndIgnoreCase() {
+        assertTrue(AssignmentEngine.isOpen(null));
+        assertTrue(AssignmentEngine.isOpen("InProgress"));
+        assertFalse(AssignmentEngine.isOpen("resolved"));
+        assertFalse(AssignmentEngine.isOpen("CLOSED"));
+    }
+
+    @Test
+    void issueUpdated_ShouldReleaseLoadWhenIssueIsResolved() {
+        // Arrange
+        List<Object[]> openIssues = new ArrayList<>();
+        openIssues.add(new Object[]{alice.getId(), 2L});
+        openIssues.add(new Object[]{bob.getId(), 1L});
+        rebuild(openIssues, alice, bob);
+
+        // Act
+        assignmentEngine.issueUpdated(alice.getId(), "InProgress", alice.getId(), "Resolved");
+        assignmentEngine.issueUpdated(alice.getId(), "New", alice.getId(), "Closed");
+        Issue issue = issue("MACHINE_BREAKDOWN");
+        assignmentEngine.assign(issue);
+
+        // Assert
+        assertEquals(alice.getId(), issue.getAssignedUser().getId());
+    }
+
+    private void rebuild(List<Object[]> openIssues, User... users) {
+        when(issueRepository.countOpenIssuesByAssignee(any())).thenReturn(openIssues);
+        when(teamRepository.findAll()).thenReturn(List.of(maintenance));
+        when(userRepository.findAll()).thenReturn(List.of(users));
+        assignmentEngine.rebuild();
+    }
+
+    private Team team(String defaultIssueTypes) {
+        Team team = new Team();
+        team.setId(UUID.randomUUID());
+        team.setName("Maintenance");
+        team.setDefaultIssueTypes(defaultIssueTypes);
+        return team;
+    }
+
+    private User user(Team team, boolean active) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName("User");
+        user.setTeam(team);
+        user.setActive(active);
+        return user;
+    }
+
+    private Issue issue(String type) {
+        Issue issue = new Issue();
+        issue.setTitle("Issue");
+        issue.setType(type);
+        return issue;
+    }
+}
@@ -0,0 +1,93 @@
+package customer.autoescalate_ops.attachment;
+
+import customer.autoescalate_ops.config.AttachmentProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentStoreTest {
+
+    @TempDir
+    private Path storageDir;
+
+    private AttachmentStore attachmentStore;
+
+    @BeforeEach
+    void setUp() {
+        AttachmentProperties properties = new AttachmentProperties();
+        properties.setStorageDir(storageDir);
+        attachmentStore = new AttachmentStore(properties);
+    }
+
+    @Test
+    void store_ShouldComputeSizeAndChecksumWhileStreaming() throws Exception {
+        // Arrange - larger than the copy buffer
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        // Act
+        AttachmentStore.StoredContent stored = attachmentStore.store(new ByteArrayInputStream(content), content.length);
+
+        // Assert
+        assertEquals(content.length, stored.size());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)), stored.checksum());
+        assertArrayEquals(content, Files.readAllBytes(attachmentStore.resolve(stored.key())));
+    }
+
+    @Test
+    void store_ShouldRejectOversizedContentAndLeaveNothingBehind() throws Exception {
+        // Arrange
+        byte[] content = new byte[1024];
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> attachmentStore.store(new ByteArrayInputStream(content), 1000));
+        try (Stream<Path> files = Files.walk(storageDir)) {
+            assertTrue(files.noneMatch(Files::isRegularFile));
+        }
+    }
+
+    @Test
+    void transferTo_ShouldCopyRequestedRange() throws Exception {
+        // Arrange
+        byte[] content = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        AttachmentStore.StoredContent stored = attachmentStore.store(new ByteArrayInputStream(content), content.length);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        attachmentStore.transferTo(stored.key(), 10, 4, Channels.newChannel(out));
+
+        // Assert
+        assertEquals("abcd", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void constructor_ShouldRejectRelativeStorageDir() {
+        // Arrange
+        AttachmentProperties properties = new AttachmentProperties();
+        properties.setStorageDir(Path.of("data", "attachments"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new AttachmentStore(properties));
+    }
+
+    @Test
+    void resolve_ShouldRejectKeysOutsideStore() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> attachmentStore.resolve("../outside"));
+    }
+}
@@ -0,0 +1,140 @@
+package customer.autoescalate_ops.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import customer.autoescalate_ops.entity.ProcessedWorkflowEvent;
+import customer.autoescalate_ops.repository.ProcessedWorkflowEventRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceRoutingConfigTest {
+
+    private HikariDataSource primaryDataSource;
+    private HikariDataSource readDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private DataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = h2DataSource("primary");
+        readDataSource = h2DataSource("read");
+
+        routingDataSource = DataSourceRoutingConfig.routingDataSource(primaryDataSource, readDataSource);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        transactionManager = new DataSourceTransactionManager(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryDataSource.close();
+        readDataSource.close();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReadPool() {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertEquals("READ", database);
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimaryPool() {
+        // Arrange
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // Act
+        String database = readWrite.execute(status -> currentDatabase());
+
+        // Assert
+        assertEquals("PRIMARY", database);
+    }
+
+    @Test
+    void noTransaction_ShouldUsePrimaryPool() {
+        assertEquals("PRIMARY", currentDatabase());
+    }
+
+    @Test
+    void jpaWriteAfterReadOnlyTransaction_ShouldUsePrimaryPool() {
+        // Arrange
+        String createTable = "CREATE TABLE processed_workflow_events "
+                + "(event_id VARCHAR(100) PRIMARY KEY, processed_at TIMESTAMP NOT NULL)";
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate read = new JdbcTemplate(readDataSource);
+        primary.execute(createTable);
+        read.execute(createTable);
+        read.update("INSERT INTO processed_workflow_events VALUES ('replicated', CURRENT_TIMESTAMP)");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(routingDataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.getJpaPropertyMap().put(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                CamelCaseToUnderscoresNamingStrategy.class.getName());
+        factoryBean.setManagedTypes(PersistenceManagedTypes.of(ProcessedWorkflowEvent.class.getName()));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        ProcessedWorkflowEventRepository repository = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(ProcessedWorkflowEventRepository.class);
+        JpaTransactionManager jpaTransactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate readOnly = new TransactionTemplate(jpaTransactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(jpaTransactionManager);
+
+        try {
+            // Act
+            Set<String> seen = readOnly.execute(status ->
+                    repository.findProcessedEventIds(List.of("replicated", "evt-1")));
+            readWrite.executeWithoutResult(status ->
+                    repository.save(new ProcessedWorkflowEvent("evt-1", LocalDateTime.now())));
+
+            // Assert
+            assertEquals(Set.of("replicated"), seen);
+            assertEquals(1, primary.queryForObject(
+                    "SELECT COUNT(*) FROM processed_workflow_events WHERE event_id = 'evt-1'", Integer.class));
+            assertEquals(0, read.queryForObject(
+                    "SELECT COUNT(*) FROM processed_workflow_events WHERE event_id = 'evt-1'", Integer.class));
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private HikariDataSource h2DataSource(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
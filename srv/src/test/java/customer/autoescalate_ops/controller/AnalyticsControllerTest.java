@@ -0,0 +1,67 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.config.AnalyticsProperties;
+import customer.autoescalate_ops.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ResponseTimeRollups rollups = new ResponseTimeRollups(issueRepository, new AnalyticsProperties());
+        mockMvc = MockMvcBuilders.standaloneSetup(new AnalyticsController(rollups)).build();
+    }
+
+    @Test
+    void getResponseTimes_ShouldReturnOkForValidRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/response-times").accept(MediaType.APPLICATION_JSON)
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("to", "2026-01-02T00:00:00")
+                        .param("groupBy", "location"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getResponseTimes_ShouldRejectUnknownGroupBy() throws Exception {
+        mockMvc.perform(get("/api/analytics/response-times").accept(MediaType.APPLICATION_JSON)
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("to", "2026-01-02T00:00:00")
+                        .param("groupBy", "shift"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported groupBy: shift"));
+    }
+
+    @Test
+    void getResponseTimes_ShouldRejectPartialDaysBeyondHourlyRetention() throws Exception {
+        mockMvc.perform(get("/api/analytics/response-times").accept(MediaType.APPLICATION_JSON)
+                        .param("from", "2026-01-01T06:00:00")
+                        .param("to", "2026-01-02T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getResponseTimes_ShouldRejectEmptyRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/response-times").accept(MediaType.APPLICATION_JSON)
+                        .param("from", "2026-01-02T00:00:00")
+                        .param("to", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,155 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.attachment.AttachmentStore;
+import customer.autoescalate_ops.config.AttachmentProperties;
+import customer.autoescalate_ops.entity.Attachment;
+import customer.autoescalate_ops.service.AttachmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Range and conditional requests on attachment downloads, served from a real
+ * {@link AttachmentStore} in a temporary directory.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttachmentControllerTest {
+
+    private static final String CONTENT = "0123456789abcdef";
+
+    @TempDir
+    private Path storageDir;
+
+    @Mock
+    private AttachmentService attachmentService;
+
+    private MockMvc mockMvc;
+    private UUID attachmentId;
+    private String eTag;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AttachmentProperties properties = new AttachmentProperties();
+        properties.setStorageDir(storageDir);
+        AttachmentStore attachmentStore = new AttachmentStore(properties);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new AttachmentController(attachmentService, attachmentStore)).build();
+
+        byte[] content = CONTENT.getBytes(StandardCharsets.US_ASCII);
+        AttachmentStore.StoredContent stored = attachmentStore.store(new ByteArrayInputStream(content), content.length);
+        attachmentId = UUID.randomUUID();
+        eTag = "\"" + stored.checksum() + "\"";
+        lenient().when(attachmentService.getAttachment(attachmentId)).thenReturn(attachment(stored, "text/plain"));
+    }
+
+    @Test
+    void uploadAttachment_ShouldRejectOversizedContent() throws Exception {
+        // Arrange
+        UUID issueId = UUID.randomUUID();
+        when(attachmentService.upload(eq(issueId), eq("dump.bin"), any(), isNull(), any()))
+                .thenThrow(new IllegalArgumentException("Attachment exceeds maximum size of 16 bytes"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/issues/{issueId}/attachments", issueId)
+                        .param("fileName", "dump.bin")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[32]))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void downloadAttachment_ShouldServeSingleRange() throws Exception {
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/16"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void downloadAttachment_ShouldServeSuffixRange() throws Exception {
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 13-15/16"))
+                .andExpect(content().string("def"));
+    }
+
+    @Test
+    void downloadAttachment_ShouldRejectUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId).header(HttpHeaders.RANGE, "bytes=16-20"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */16"));
+    }
+
+    @Test
+    void downloadAttachment_ShouldIgnoreRangeWhenIfRangeDoesNotMatch() throws Exception {
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    void downloadAttachment_ShouldReturnNotModifiedForMatchingETag() throws Exception {
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void downloadAttachment_ShouldForceDownloadOfActiveContent() throws Exception {
+        // Arrange
+        attachmentService.getAttachment(attachmentId).setFileType("text/html");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment")))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+    }
+
+    @Test
+    void downloadAttachment_ShouldShowRasterImagesInline() throws Exception {
+        // Arrange
+        attachmentService.getAttachment(attachmentId).setFileType("image/png");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/attachments/{id}/content", attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("inline")));
+    }
+
+    private static Attachment attachment(AttachmentStore.StoredContent stored, String fileType) {
+        Attachment attachment = new Attachment();
+        attachment.setUrl(stored.key());
+        attachment.setSize(stored.size());
+        attachment.setChecksum(stored.checksum());
+        attachment.setFileType(fileType);
+        attachment.setFileName("notes.txt");
+        return attachment;
+    }
+}
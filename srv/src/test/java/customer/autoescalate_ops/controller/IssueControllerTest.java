@@ -0,0 +1,111 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.service.SPAClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional GET on the issue list, against the real database so that the
+ * ETag is derived from the stored rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IssueControllerTest {
+
+    private static final String AUTHORIZATION =
+            "Basic " + Base64.getEncoder().encodeToString("authenticated:".getBytes());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @MockitoBean
+    private SPAClient spaClient;
+
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        issue = new Issue();
+        issue.setTitle("Conveyor stopped");
+        issue.setStatus("New");
+        issue.setPriority("High");
+        issue.setReportedAt(LocalDateTime.now());
+        issue = issueRepository.save(issue);
+    }
+
+    @Test
+    void getAllIssues_ShouldAnswerNotModifiedForUnchangedList() throws Exception {
+        // Arrange
+        String eTag = listETag("/api/issues?status=New");
+
+        // Act & Assert
+        mockMvc.perform(request(get("/api/issues?status=New")).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAllIssues_ShouldInvalidateETagAfterUpdate() throws Exception {
+        // Arrange
+        String newETag = listETag("/api/issues?status=New");
+        String lowETag = listETag("/api/issues?priority=Low");
+
+        // Act
+        mockMvc.perform(request(patch("/api/issues/" + issue.getId()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"InProgress\"}"))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(request(get("/api/issues?status=New")).header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(request(get("/api/issues?priority=Low")).header(HttpHeaders.IF_NONE_MATCH, lowETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAllIssues_ShouldInvalidateETagAfterWriteOutsideIssueService() throws Exception {
+        // Arrange
+        String eTag = listETag("/api/issues");
+
+        // Act
+        issue.setTitle("Conveyor stopped again");
+        issueRepository.save(issue);
+
+        // Assert
+        String newETag = listETag("/api/issues");
+        assertNotEquals(eTag, newETag);
+    }
+
+    private String listETag(String url) throws Exception {
+        String eTag = mockMvc.perform(request(get(url)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        return eTag;
+    }
+
+    private static MockHttpServletRequestBuilder request(MockHttpServletRequestBuilder builder) {
+        return builder.header(HttpHeaders.AUTHORIZATION, AUTHORIZATION);
+    }
+}
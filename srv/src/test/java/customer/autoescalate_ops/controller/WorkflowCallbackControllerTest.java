@@ -0,0 +1,69 @@
+package customer.autoescalate_ops.controller;
+
+import customer.autoescalate_ops.config.WorkflowCallbackProperties;
+import customer.autoescalate_ops.dto.WorkflowCallbackResponse;
+import customer.autoescalate_ops.service.WorkflowCallbackService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowCallbackControllerTest {
+
+    private static final String EVENT = "{\"eventId\":\"%s\",\"issueId\":\"8a1c5f0e-6d2b-4c39-9f0a-0b7e2f3d4c11\",\"status\":\"Resolved\"}";
+
+    @Mock
+    private WorkflowCallbackService workflowCallbackService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        WorkflowCallbackProperties callbackProperties = new WorkflowCallbackProperties();
+        callbackProperties.setMaxBatchSize(2);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new WorkflowCallbackController(workflowCallbackService, callbackProperties)).build();
+    }
+
+    @Test
+    void applyCallbacks_ShouldApplyBatchWithinLimit() throws Exception {
+        // Arrange
+        when(workflowCallbackService.applyEvents(anyList())).thenReturn(new WorkflowCallbackResponse());
+
+        // Act & Assert
+        mockMvc.perform(callbacks(EVENT.formatted("evt-1") + "," + EVENT.formatted("evt-2")))
+                .andExpect(status().isOk());
+        verify(workflowCallbackService).applyEvents(anyList());
+    }
+
+    @Test
+    void applyCallbacks_ShouldRejectOversizedBatch() throws Exception {
+        mockMvc.perform(callbacks(EVENT.formatted("evt-1") + "," + EVENT.formatted("evt-2") + "," + EVENT.formatted("evt-3")))
+                .andExpect(status().isPayloadTooLarge());
+        verifyNoInteractions(workflowCallbackService);
+    }
+
+    @Test
+    void applyCallbacks_ShouldRejectNullEvent() throws Exception {
+        mockMvc.perform(callbacks(EVENT.formatted("evt-1") + ",null"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(workflowCallbackService);
+    }
+
+    private static RequestBuilder callbacks(String events) {
+        return post("/api/workflow/callbacks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"events\":[" + events + "]}");
+    }
+}
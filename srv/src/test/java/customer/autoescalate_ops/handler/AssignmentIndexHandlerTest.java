@@ -0,0 +1,84 @@
+package customer.autoescalate_ops.handler;
+
+import com.sap.cds.ResultBuilder;
+import com.sap.cds.reflect.CdsEntity;
+import com.sap.cds.services.cds.CdsCreateEventContext;
+import com.sap.cds.services.cds.CdsDeleteEventContext;
+import com.sap.cds.services.changeset.ChangeSetContext;
+import com.sap.cds.services.changeset.ChangeSetListener;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentIndexHandlerTest {
+
+    @Mock
+    private AssignmentEngine assignmentEngine;
+
+    @Mock
+    private ChangeSetContext changeSetContext;
+
+    @Mock
+    private CdsEntity target;
+
+    @InjectMocks
+    private AssignmentIndexHandler handler;
+
+    @Test
+    void afterCreate_ShouldRefreshWrittenUsersOnCommit() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        CdsCreateEventContext context = mock(CdsCreateEventContext.class);
+        when(target.getQualifiedName()).thenReturn(AutoEscalateEntities.USERS);
+        when(context.getChangeSetContext()).thenReturn(changeSetContext);
+        when(context.getTarget()).thenReturn(target);
+        when(context.getResult()).thenReturn(
+                ResultBuilder.insertedRows(List.of(Map.of("ID", userId.toString(), "name", "Alice"))).result());
+
+        // Act
+        handler.afterCreate(context);
+        registeredListener().afterClose(true);
+
+        // Assert
+        verify(assignmentEngine).refresh(List.of(), Set.of(userId));
+    }
+
+    @Test
+    void afterDelete_ShouldRebuildOnCommitOnly() {
+        // Arrange
+        CdsDeleteEventContext context = mock(CdsDeleteEventContext.class);
+        when(target.getQualifiedName()).thenReturn(AutoEscalateEntities.TEAMS);
+        when(context.getChangeSetContext()).thenReturn(changeSetContext);
+        when(context.getTarget()).thenReturn(target);
+
+        // Act
+        handler.afterDelete(context);
+        ChangeSetListener listener = registeredListener();
+        listener.afterClose(false);
+        verify(assignmentEngine, never()).rebuild();
+        listener.afterClose(true);
+
+        // Assert
+        verify(assignmentEngine).rebuild();
+        verify(assignmentEngine, never()).refresh(any(), any());
+    }
+
+    private ChangeSetListener registeredListener() {
+        ArgumentCaptor<ChangeSetListener> listener = ArgumentCaptor.forClass(ChangeSetListener.class);
+        verify(changeSetContext).register(listener.capture());
+        return listener.getValue();
+    }
+}
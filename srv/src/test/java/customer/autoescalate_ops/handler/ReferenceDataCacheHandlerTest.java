@@ -0,0 +1,118 @@
+package customer.autoescalate_ops.handler;
+
+import com.sap.cds.Result;
+import com.sap.cds.ResultBuilder;
+import com.sap.cds.ql.Select;
+import com.sap.cds.services.EventContext;
+import com.sap.cds.services.cds.CdsReadEventContext;
+import com.sap.cds.services.changeset.ChangeSetContext;
+import com.sap.cds.services.changeset.ChangeSetListener;
+import customer.autoescalate_ops.config.ODataCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheHandlerTest {
+
+    @Mock
+    private CdsReadEventContext context;
+
+    @Mock
+    private ChangeSetContext changeSetContext;
+
+    private ReferenceDataCacheHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ReferenceDataCacheHandler(new ODataCacheProperties());
+
+        when(context.getCqn()).thenReturn(Select.from(AutoEscalateEntities.TEAMS).limit(50));
+        lenient().when(context.getResult()).thenReturn(
+                ResultBuilder.selectedRows(List.of(Map.of("ID", "t1", "name", "Maintenance"))).result());
+    }
+
+    @Test
+    void readCached_ShouldServeRepeatedReadFromCache() {
+        // Act
+        handler.readCached(context);
+        handler.readCached(context);
+
+        // Assert
+        verify(context, times(1)).proceed();
+        verify(context, times(1)).setResult(any());
+    }
+
+    @Test
+    void readCached_ShouldReadThroughAfterInvalidation() {
+        // Act
+        handler.readCached(context);
+        handler.invalidate();
+        handler.readCached(context);
+
+        // Assert
+        verify(context, times(2)).proceed();
+        verify(context, never()).setResult(any());
+    }
+
+    @Test
+    void readCached_ShouldServeEachReadItsOwnRows() {
+        // Arrange
+        ArgumentCaptor<Result> results = ArgumentCaptor.forClass(Result.class);
+        handler.readCached(context);
+
+        // Act
+        handler.readCached(context);
+        handler.readCached(context);
+
+        // Assert
+        verify(context, times(2)).setResult(results.capture());
+        results.getAllValues().get(0).single().put("name", "Changed");
+        assertEquals("Maintenance", results.getAllValues().get(1).single().get("name"));
+    }
+
+    @Test
+    void readCached_ShouldNotCacheWhileWriteIsOpen() {
+        // Arrange
+        EventContext write = mock(EventContext.class);
+        when(write.getChangeSetContext()).thenReturn(changeSetContext);
+        handler.invalidateOnWrite(write);
+        ArgumentCaptor<ChangeSetListener> listener = ArgumentCaptor.forClass(ChangeSetListener.class);
+        verify(changeSetContext).register(listener.capture());
+
+        // Act
+        handler.readCached(context);
+        listener.getValue().afterClose(true);
+        handler.readCached(context);
+        handler.readCached(context);
+
+        // Assert
+        verify(context, times(2)).proceed();
+        verify(context, times(1)).setResult(any());
+    }
+
+    @Test
+    void readCached_ShouldBypassCacheForExpands() {
+        // Arrange
+        when(context.getCqn()).thenReturn(Select.from(AutoEscalateEntities.TEAMS)
+                .columns(t -> t._all(), t -> t.expand("members")));
+
+        // Act
+        handler.readCached(context);
+        handler.readCached(context);
+
+        // Assert
+        verify(context, never()).proceed();
+        verify(context, never()).setResult(any());
+    }
+}
@@ -0,0 +1,329 @@
+package customer.autoescalate_ops.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives mixed read/create/update traffic through the REST API at fixed target
+ * rates, with the outbound workflow call going to a local {@link SpaStub}
+ * instead of SAP BPA, and the database in a file-backed H2 under
+ * {@code target/loadtest}. Requests are issued on schedule whether or not
+ * earlier ones have returned, and latency is measured from the scheduled
+ * time, so a stalled server shows up in the percentiles instead of slowing
+ * the load down.
+ *
+ * <p>Tagged {@code load} and left out of the regular test run. Run it
+ * explicitly with
+ * {@code mvn test -Pload -Dtest=IssueLoadSimulation -Dsurefire.failIfNoSpecifiedTests=false},
+ * tuning the run with {@code -Dload.*} properties (see {@link LoadProfile}).
+ * Adding {@code -Dload.soak.duration=PT4H} also runs the soak, which reports
+ * heap after GC per interval and fails if it grows by more than
+ * {@code load.soak.max-heap-growth-mb}. The driver, stub and application share
+ * one JVM, so heap and GC figures include all three.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.customer.autoescalate_ops=WARN",
+        "logging.level.customer.autoescalate_ops.loadtest=INFO"
+})
+class IssueLoadSimulation {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueLoadSimulation.class);
+
+    private static final LoadProfile PROFILE = LoadProfile.fromSystemProperties();
+    private static final Path DATABASE = Path.of("target", "loadtest", "issues-" + System.currentTimeMillis())
+            .toAbsolutePath();
+    private static final Pattern ISSUE_ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final String AUTHORIZATION =
+            "Basic " + Base64.getEncoder().encodeToString("authenticated:".getBytes());
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_ISSUES = 20;
+
+    private static SpaStub stub;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // Recently created issues, overwritten round-robin, for reads and updates to target
+    private final AtomicReferenceArray<String> issueIds = new AtomicReferenceArray<>(1024);
+    private final AtomicLong createdIssues = new AtomicLong();
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) {
+        try {
+            stub = new SpaStub(PROFILE.stubLatency(), PROFILE.stubErrorRate(), PROFILE.stubTimeoutRate());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String url = "jdbc:h2:file:" + DATABASE + ";DB_CLOSE_ON_EXIT=FALSE";
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("datasource.read.url", () -> url);
+        registry.add("spa.baseUrl", stub::getBaseUrl);
+        registry.add("spa.tokenUrl", () -> stub.getBaseUrl() + SpaStub.TOKEN_PATH);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    void mixedLoad() {
+        List<LatencyRecorder.Snapshot> results = run(PROFILE.duration(), PROFILE.duration()).get(0);
+
+        for (LatencyRecorder.Snapshot result : results) {
+            assertTrue(result.requests() > 0, "No " + result.operation() + " requests completed");
+            assertEquals(0, result.failures(), result.operation() + " requests failed");
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "load.soak.duration", matches = ".+")
+    void soak() {
+        List<Long> heapAfterGc = new ArrayList<>();
+        List<List<LatencyRecorder.Snapshot>> intervals = run(PROFILE.soakDuration(), PROFILE.reportInterval(),
+                () -> heapAfterGc.add(heapAfterGcMb()));
+
+        long growth = heapAfterGc.get(heapAfterGc.size() - 1) - heapAfterGc.get(0);
+        logger.info("soak: {} intervals, heap after GC {} MB -> {} MB ({} MB), workflow calls still open: {}",
+                intervals.size(), heapAfterGc.get(0), heapAfterGc.get(heapAfterGc.size() - 1),
+                String.format("%+d", growth), stub.getInFlight());
+        assertTrue(growth <= PROFILE.maxHeapGrowthMb(),
+                "Heap after GC grew by " + growth + " MB over the soak");
+    }
+
+    private List<List<LatencyRecorder.Snapshot>> run(Duration duration, Duration reportInterval) {
+        return run(duration, reportInterval, () -> {
+        });
+    }
+
+    /**
+     * Seeds a few issues, runs the configured load for warm-up plus
+     * {@code duration}, and logs a report every {@code reportInterval}.
+     *
+     * @param afterInterval called after each report, e.g. to sample the heap
+     * @return the per-operation results of each reported interval
+     */
+    private List<List<LatencyRecorder.Snapshot>> run(Duration duration, Duration reportInterval,
+                                                     Runnable afterInterval) {
+        for (int i = 0; i < SEED_ISSUES; i++) {
+            send(createRequest(), System.nanoTime(), new LatencyRecorder("seed"), this::issueCreated);
+        }
+        // Reads and updates pick one of the created issues, so there must be at least one
+        assertTrue(createdIssues.get() > 0,
+                "None of the " + SEED_ISSUES + " seed issues could be created, see the application log");
+
+        LatencyRecorder reads = new LatencyRecorder("read");
+        LatencyRecorder creates = new LatencyRecorder("create");
+        LatencyRecorder updates = new LatencyRecorder("update");
+        List<LatencyRecorder> recorders = List.of(reads, creates, updates);
+
+        List<List<LatencyRecorder.Snapshot>> intervals = new ArrayList<>();
+        long deadline = System.nanoTime() + PROFILE.warmup().toNanos() + duration.toNanos();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> dispatchers = List.of(
+                    dispatch(requests, reads, PROFILE.readsPerSecond(), deadline, this::readRequest, body -> {
+                    }),
+                    dispatch(requests, creates, PROFILE.createsPerSecond(), deadline, this::createRequest,
+                            this::issueCreated),
+                    dispatch(requests, updates, PROFILE.updatesPerSecond(), deadline, this::updateRequest, body -> {
+                    }));
+
+            sleep(PROFILE.warmup());
+            recorders.forEach(LatencyRecorder::snapshot);
+            JvmSample previous = JvmSample.take();
+
+            boolean finished = false;
+            while (!finished) {
+                long remaining = deadline - System.nanoTime();
+                finished = remaining <= reportInterval.toNanos();
+                Duration interval = finished ? Duration.ofNanos(Math.max(0, remaining)) : reportInterval;
+                sleep(interval);
+                if (finished) {
+                    // Let the last scheduled requests complete so they are counted
+                    dispatchers.forEach(IssueLoadSimulation::join);
+                    requests.close();
+                }
+
+                List<LatencyRecorder.Snapshot> results = recorders.stream().map(LatencyRecorder::snapshot).toList();
+                JvmSample current = JvmSample.take();
+                logger.info("--- interval {} ({} s) ---", intervals.size() + 1, interval.toSeconds());
+                results.forEach(result -> logger.info(result.format(interval)));
+                logger.info(current.format(previous));
+                logger.info("stub    token={} workflow={} errors={} held={} open={}",
+                        stub.getTokenRequests(), stub.getWorkflowRequests(), stub.getErrors(),
+                        stub.getTimeouts(), stub.getInFlight());
+                intervals.add(results);
+                previous = current;
+                afterInterval.run();
+            }
+        }
+        return intervals;
+    }
+
+    private Thread dispatch(ExecutorService requests, LatencyRecorder recorder, double perSecond, long deadline,
+                            Supplier<HttpRequest> request, Consumer<String> onResponse) {
+        return Thread.ofPlatform().name("load-" + recorder.getOperation()).start(() -> {
+            if (perSecond <= 0) {
+                return;
+            }
+            long period = (long) (1_000_000_000L / perSecond);
+            for (long scheduled = System.nanoTime(); scheduled < deadline; scheduled += period) {
+                LockSupport.parkNanos(scheduled - System.nanoTime());
+                long intended = scheduled;
+                HttpRequest next = request.get();
+                requests.execute(() -> send(next, intended, recorder, onResponse));
+            }
+        });
+    }
+
+    private void send(HttpRequest request, long intendedNanos, LatencyRecorder recorder, Consumer<String> onResponse) {
+        boolean success = false;
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() < 400;
+            if (success) {
+                onResponse.accept(response.body());
+            }
+        } catch (IOException e) {
+            // Counted as a failure below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        recorder.record(System.nanoTime() - intendedNanos, success);
+    }
+
+    private void issueCreated(String body) {
+        Matcher matcher = ISSUE_ID.matcher(body);
+        if (matcher.find()) {
+            issueIds.set((int) (createdIssues.getAndIncrement() % issueIds.length()), matcher.group(1));
+        }
+    }
+
+    private HttpRequest readRequest() {
+        // Mostly single-issue reads, with the occasional filtered list refresh
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            return request("/api/issues?status=InProgress").GET().build();
+        }
+        return request("/api/issues/" + randomIssueId()).GET().build();
+    }
+
+    private HttpRequest createRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String body = String.format(
+                "{\"title\":\"Load test issue\",\"description\":\"Generated by IssueLoadSimulation\","
+                        + "\"type\":\"MACHINE_BREAKDOWN\",\"priority\":\"%s\",\"severity\":%d,\"location\":\"Plant %d\"}",
+                random.nextBoolean() ? "High" : "Low", random.nextInt(1, 6), random.nextInt(1, 4));
+        return request("/api/issues")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest updateRequest() {
+        String body = ThreadLocalRandom.current().nextBoolean()
+                ? "{\"status\":\"InProgress\"}"
+                : "{\"escalationLevel\":" + ThreadLocalRandom.current().nextInt(1, 4) + "}";
+        return request("/api/issues/" + randomIssueId())
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", AUTHORIZATION)
+                .timeout(REQUEST_TIMEOUT);
+    }
+
+    private String randomIssueId() {
+        int known = (int) Math.min(createdIssues.get(), issueIds.length());
+        return issueIds.get(ThreadLocalRandom.current().nextInt(known));
+    }
+
+    private static long heapAfterGcMb() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        }
+    }
+
+    private record JvmSample(long heapUsedMb, long heapCommittedMb, long gcCount, long gcMillis, int threads) {
+
+        static JvmSample take() {
+            MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+            long gcCount = 0;
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, collector.getCollectionCount());
+                gcMillis += Math.max(0, collector.getCollectionTime());
+            }
+            return new JvmSample(heap.getUsed() / (1024 * 1024), heap.getCommitted() / (1024 * 1024),
+                    gcCount, gcMillis, ManagementFactory.getThreadMXBean().getThreadCount());
+        }
+
+        String format(JvmSample previous) {
+            return String.format("jvm     heap=%d/%d MB  gc=%d collections, %d ms  threads=%d",
+                    heapUsedMb, heapCommittedMb, gcCount - previous.gcCount, gcMillis - previous.gcMillis, threads);
+        }
+    }
+}
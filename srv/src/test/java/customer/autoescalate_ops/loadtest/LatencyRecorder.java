@@ -0,0 +1,69 @@
+package customer.autoescalate_ops.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Collects request latencies for one operation over a reporting interval.
+ * Samples are kept exactly and dropped on {@link #snapshot()}, so memory is
+ * bounded by the interval rather than by the length of a soak run.
+ */
+class LatencyRecorder {
+
+    private final String operation;
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long failures;
+
+    LatencyRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (!success) {
+            failures++;
+        }
+    }
+
+    /**
+     * Returns the interval's statistics and starts a new interval.
+     */
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        Snapshot snapshot = new Snapshot(operation, sorted.length, failures,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0);
+        samples = new long[1024];
+        count = 0;
+        failures = 0;
+        return snapshot;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Snapshot(String operation, long requests, long failures,
+                    double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        String format(Duration interval) {
+            return String.format("%-7s %8d req %8.1f req/s %6d failed  p50=%8.2f ms  p99=%8.2f ms  p999=%8.2f ms  max=%8.2f ms",
+                    operation, requests, requests / (interval.toMillis() / 1000.0), failures,
+                    p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package customer.autoescalate_ops.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Target rates and stub behaviour for a load run, read from {@code load.*}
+ * system properties. Durations use ISO-8601 ({@code PT30S}, {@code PT8H}).
+ */
+record LoadProfile(
+        Duration duration,
+        Duration soakDuration,
+        Duration warmup,
+        Duration reportInterval,
+        double readsPerSecond,
+        double createsPerSecond,
+        double updatesPerSecond,
+        Duration stubLatency,
+        double stubErrorRate,
+        double stubTimeoutRate,
+        long maxHeapGrowthMb) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                duration("load.duration", Duration.ofSeconds(60)),
+                duration("load.soak.duration", null),
+                duration("load.warmup", Duration.ofSeconds(10)),
+                duration("load.report-interval", Duration.ofSeconds(30)),
+                number("load.read-rate", 50),
+                number("load.create-rate", 5),
+                number("load.update-rate", 10),
+                duration("load.stub.latency", Duration.ofMillis(200)),
+                number("load.stub.error-rate", 0.05),
+                number("load.stub.timeout-rate", 0.01),
+                (long) number("load.soak.max-heap-growth-mb", 64));
+    }
+
+    private static Duration duration(String name, Duration defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Duration.parse(value) : defaultValue;
+    }
+
+    private static double number(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,108 @@
+package customer.autoescalate_ops.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures OData {@code $batch} throughput against individual requests for the
+ * same reads, and fails if a multi-request batch is not faster than sending
+ * its requests one by one. Like {@link IssueLoadSimulation} it is tagged
+ * {@code load} and left out of the regular test run; run it explicitly with
+ * {@code mvn test -Pload -Dtest=ODataBatchBenchmark -Dsurefire.failIfNoSpecifiedTests=false}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ODataBatchBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ODataBatchBenchmark.class);
+
+    private static final String SERVICE_PATH = "/odata/v4/autoescalate/";
+    private static final String BOUNDARY = "batch_benchmark";
+    private static final String[] READS = {
+            "Teams?$top=50",
+            "Machines?$top=50",
+            "Users?$top=50",
+            "Issues?$top=100&$filter=status eq 'New'",
+            "AuditLogs?$top=100"
+    };
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Test
+    void batchVersusIndividualReads() {
+        WebClient client = webClientBuilder
+                .baseUrl("http://localhost:" + port + SERVICE_PATH)
+                .defaultHeader(HttpHeaders.AUTHORIZATION,
+                        "Basic " + Base64.getEncoder().encodeToString("authenticated:".getBytes()))
+                .build();
+
+        for (int batchSize : new int[]{1, 5, 20, 50}) {
+            String body = batchBody(batchSize);
+            Runnable batch = () -> client.post()
+                    .uri("$batch")
+                    .header(HttpHeaders.CONTENT_TYPE, "multipart/mixed; boundary=" + BOUNDARY)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+            Runnable individual = () -> {
+                for (int i = 0; i < batchSize; i++) {
+                    client.get()
+                            .uri(READS[i % READS.length])
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .block();
+                }
+            };
+
+            double batchMillis = measure(batch);
+            double individualMillis = measure(individual);
+            logger.info(String.format("batchSize=%d  $batch=%.3f ms/round  individual=%.3f ms/round  speedup=%.2fx",
+                    batchSize, batchMillis, individualMillis, individualMillis / batchMillis));
+            if (batchSize > 1) {
+                assertTrue(batchMillis < individualMillis,
+                        "$batch of " + batchSize + " reads should be faster than " + batchSize + " requests");
+            }
+        }
+    }
+
+    private double measure(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+
+    private String batchBody(int batchSize) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < batchSize; i++) {
+            body.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-Transfer-Encoding: binary\r\n\r\n")
+                    .append("GET ").append(READS[i % READS.length]).append(" HTTP/1.1\r\n")
+                    .append("Accept: application/json\r\n\r\n\r\n");
+        }
+        return body.append("--").append(BOUNDARY).append("--\r\n").toString();
+    }
+}
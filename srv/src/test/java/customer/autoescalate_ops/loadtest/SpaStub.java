@@ -0,0 +1,138 @@
+package customer.autoescalate_ops.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the SAP Build Process Automation token and
+ * workflow-instance endpoints. Workflow starts answer after a fixed latency,
+ * fail with a 500 at the configured error rate, and at the timeout rate are
+ * held open until the stub stops, like a gateway that never answers.
+ */
+class SpaStub implements AutoCloseable {
+
+    static final String TOKEN_PATH = "/oauth/token";
+    static final String WORKFLOW_PATH = "/public/workflow/rest/v1/workflow-instances";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private final Duration latency;
+    private final double errorRate;
+    private final double timeoutRate;
+
+    private final AtomicLong tokenRequests = new AtomicLong();
+    private final AtomicLong workflowRequests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    SpaStub(Duration latency, double errorRate, double timeoutRate) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext(TOKEN_PATH, this::token);
+        server.createContext(WORKFLOW_PATH, this::startWorkflow);
+        server.start();
+    }
+
+    String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long getTokenRequests() {
+        return tokenRequests.get();
+    }
+
+    long getWorkflowRequests() {
+        return workflowRequests.get();
+    }
+
+    long getErrors() {
+        return errors.get();
+    }
+
+    long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Workflow starts received but not yet answered. Calls the stub holds open
+     * stay here until it stops, so a client without a timeout shows up as a
+     * count that only grows.
+     */
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void close() {
+        stopped.countDown();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        drain(exchange);
+        respond(exchange, 200, "{\"access_token\":\"stub-token\",\"token_type\":\"bearer\",\"expires_in\":43199}");
+    }
+
+    private void startWorkflow(HttpExchange exchange) throws IOException {
+        workflowRequests.incrementAndGet();
+        inFlight.incrementAndGet();
+        try {
+            drain(exchange);
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < timeoutRate) {
+                timeouts.incrementAndGet();
+                stopped.await();
+                return;
+            }
+            Thread.sleep(latency);
+            if (roll < timeoutRate + errorRate) {
+                errors.incrementAndGet();
+                respond(exchange, 500, "{\"error\":\"stubbed failure\"}");
+            } else {
+                respond(exchange, 201, "{\"id\":\"" + UUID.randomUUID() + "\",\"status\":\"RUNNING\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
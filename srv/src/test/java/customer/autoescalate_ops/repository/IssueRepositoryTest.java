@@ -0,0 +1,67 @@
+package customer.autoescalate_ops.repository;
+
+import customer.autoescalate_ops.assignment.AssignmentEngine;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class IssueRepositoryTest {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void countOpenIssuesByAssignee_ShouldAgreeWithIsOpen() {
+        // Arrange
+        User alice = user("Alice");
+        User bob = user("Bob");
+        String[] statuses = {"New", "InProgress", null, "resolved", "Closed", "CLOSED"};
+        for (String status : statuses) {
+            issue(alice, status);
+        }
+        issue(bob, "Resolved");
+        issue(null, "New");
+        entityManager.flush();
+
+        // Act
+        Map<UUID, Long> openIssues = new HashMap<>();
+        for (Object[] row : issueRepository.countOpenIssuesByAssignee(Set.of("RESOLVED", "CLOSED"))) {
+            openIssues.put((UUID) row[0], (Long) row[1]);
+        }
+
+        // Assert
+        long expected = Stream.of(statuses).filter(AssignmentEngine::isOpen).count();
+        assertEquals(3, expected);
+        assertEquals(Map.of(alice.getId(), expected), openIssues);
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setName(name);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void issue(User assignee, String status) {
+        Issue issue = new Issue();
+        issue.setTitle("Issue");
+        issue.setStatus(status);
+        issue.setAssignedUser(assignee);
+        entityManager.persist(issue);
+    }
+}
@@ -0,0 +1,68 @@
+package customer.autoescalate_ops.repository;
+
+import customer.autoescalate_ops.entity.Machine;
+import customer.autoescalate_ops.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Users, Teams and Machines live in the tables generated from db/schema.cds.
+ * Rows are written here the way CAP writes them, with the CDS column names
+ * and string keys, and read back through JPA.
+ */
+@DataJpaTest
+class ReferenceDataRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MachineRepository machineRepository;
+
+    @Test
+    void findById_ShouldReadUserWrittenThroughCap() {
+        // Arrange
+        UUID teamId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO AUTOESCALATEOPS_TEAMS (ID, NAME, DEFAULTISSUETYPES, CREATEDAT) "
+                + "VALUES (?, 'Maintenance', 'MACHINE_BREAKDOWN', CURRENT_TIMESTAMP)", teamId.toString());
+        jdbcTemplate.update("INSERT INTO AUTOESCALATEOPS_USERS (ID, NAME, EMAIL, ROLE, ISACTIVE, TEAM_ID) "
+                + "VALUES (?, 'Alice', 'alice@example.com', 'OPERATOR', TRUE, ?)", userId.toString(), teamId.toString());
+
+        // Act
+        User user = userRepository.findById(userId).orElseThrow();
+
+        // Assert
+        assertEquals("Alice", user.getName());
+        assertTrue(user.getActive());
+        assertEquals(teamId, user.getTeam().getId());
+        assertEquals("MACHINE_BREAKDOWN", user.getTeam().getDefaultIssueTypes());
+    }
+
+    @Test
+    void save_ShouldWriteMachineReadableByCap() {
+        // Arrange
+        Machine machine = new Machine();
+        machine.setName("Press 4");
+        machine.setAssetTag("A-100");
+        machine.setActive(true);
+
+        // Act
+        machine = machineRepository.saveAndFlush(machine);
+
+        // Assert
+        String assetTag = jdbcTemplate.queryForObject(
+                "SELECT ASSETTAG FROM AUTOESCALATEOPS_MACHINES WHERE ID = ? AND ISACTIVE",
+                String.class, machine.getId().toString());
+        assertEquals("A-100", assetTag);
+    }
+}
@@ -0,0 +1,153 @@
+package customer.autoescalate_ops.service;
+
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
+import customer.autoescalate_ops.dto.IssueCreateRequest;
+import customer.autoescalate_ops.dto.IssueResponse;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.Machine;
+import customer.autoescalate_ops.entity.Team;
+import customer.autoescalate_ops.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the issue list against N+1 queries: however many issues and related
+ * rows there are, listing them must take a fixed number of statements.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(IssueService.class)
+class IssueServiceQueryCountTest {
+
+    private static final int ISSUE_COUNT = 20;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private SPAClient spaClient;
+
+    @MockitoBean
+    private AssignmentEngine assignmentEngine;
+
+    @MockitoBean
+    private ResponseTimeRollups responseTimeRollups;
+
+    private Statistics statistics;
+    private Team firstTeam;
+    private User firstAssignee;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            entityManager.persist(team);
+
+            User reporter = new User();
+            reporter.setName("Reporter " + i);
+            reporter.setTeam(team);
+            entityManager.persist(reporter);
+
+            User assignee = new User();
+            assignee.setName("Assignee " + i);
+            assignee.setTeam(team);
+            entityManager.persist(assignee);
+
+            Machine machine = new Machine();
+            machine.setName("Machine " + i);
+            entityManager.persist(machine);
+
+            Issue issue = new Issue();
+            issue.setTitle("Issue " + i);
+            issue.setStatus(i % 2 == 0 ? "New" : "InProgress");
+            issue.setPriority("High");
+            issue.setReportedAt(LocalDateTime.now());
+            issue.setReporter(reporter);
+            issue.setAssignedTeam(team);
+            issue.setAssignedUser(assignee);
+            issue.setMachine(machine);
+            entityManager.persist(issue);
+
+            if (i == 0) {
+                firstTeam = team;
+                firstAssignee = assignee;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllIssues_ShouldLoadAssociationsInOneStatement() {
+        // Act
+        List<IssueResponse> issues = issueService.getAllIssues(null, null);
+
+        // Assert
+        assertEquals(ISSUE_COUNT, issues.size());
+        assertTrue(issues.stream().allMatch(issue -> issue.getReporterName() != null
+                && issue.getAssignedTeamName() != null
+                && issue.getAssignedUserName() != null
+                && issue.getMachineName() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllIssues_FilteredByStatus_ShouldLoadAssociationsInOneStatement() {
+        // Act
+        List<IssueResponse> issues = issueService.getAllIssues("New", "High");
+
+        // Assert
+        assertEquals(ISSUE_COUNT / 2, issues.size());
+        assertTrue(issues.stream().allMatch(issue -> issue.getMachineName() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createIssue_ShouldNotLoadAssignedTeamOrUser() {
+        // Arrange
+        when(assignmentEngine.assign(any(Issue.class))).thenAnswer(invocation -> {
+            Issue issue = invocation.getArgument(0);
+            issue.setAssignedUser(entityManager.getReference(User.class, firstAssignee.getId()));
+            issue.setAssignedTeam(entityManager.getReference(Team.class, firstTeam.getId()));
+            return new AssignmentEngine.Assignment(firstAssignee.getId(), "Assignee 0", firstTeam.getId(), "Team 0");
+        });
+        IssueCreateRequest request = new IssueCreateRequest();
+        request.setTitle("Conveyor stopped");
+        request.setType("MACHINE_BREAKDOWN");
+
+        // Act
+        IssueResponse issue = issueService.createIssue(request);
+        entityManager.flush();
+
+        // Assert
+        assertEquals("Assignee 0", issue.getAssignedUserName());
+        assertEquals("Team 0", issue.getAssignedTeamName());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
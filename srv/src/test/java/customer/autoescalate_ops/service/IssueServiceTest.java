@@ -1,9 +1,14 @@
 package customer.autoescalate_ops.service;
 
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
 import customer.autoescalate_ops.dto.IssueCreateRequest;
 import customer.autoescalate_ops.dto.IssueResponse;
 import customer.autoescalate_ops.entity.Issue;
 import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.MachineRepository;
+import customer.autoescalate_ops.repository.TeamRepository;
+import customer.autoescalate_ops.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,9 +28,24 @@ class IssueServiceTest {
     @Mock
     private IssueRepository issueRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private MachineRepository machineRepository;
+
     @Mock
     private SPAClient spaClient;
 
+    @Mock
+    private AssignmentEngine assignmentEngine;
+
+    @Mock
+    private ResponseTimeRollups responseTimeRollups;
+
     @InjectMocks
     private IssueService issueService;
 
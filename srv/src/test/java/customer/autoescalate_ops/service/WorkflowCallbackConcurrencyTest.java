@@ -0,0 +1,117 @@
+package customer.autoescalate_ops.service;
+
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
+import customer.autoescalate_ops.config.WorkflowCallbackProperties;
+import customer.autoescalate_ops.dto.IssueUpdateRequest;
+import customer.autoescalate_ops.dto.WorkflowCallbackResponse;
+import customer.autoescalate_ops.dto.WorkflowEvent;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.ProcessedWorkflowEvent;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.ProcessedWorkflowEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Runs batches outside a test transaction, so that a competing delivery can
+ * commit its event marker while a batch is being applied.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({WorkflowCallbackService.class, IssueService.class, WorkflowCallbackProperties.class})
+class WorkflowCallbackConcurrencyTest {
+
+    @Autowired
+    private WorkflowCallbackService workflowCallbackService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProcessedWorkflowEventRepository processedEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private IssueService issueService;
+
+    @MockitoBean
+    private SPAClient spaClient;
+
+    @MockitoBean
+    private AssignmentEngine assignmentEngine;
+
+    @MockitoBean
+    private ResponseTimeRollups responseTimeRollups;
+
+    private UUID issueId;
+
+    @BeforeEach
+    void setUp() {
+        Issue issue = new Issue();
+        issue.setTitle("Conveyor stopped");
+        issue.setStatus("InProgress");
+        issue.setReportedAt(LocalDateTime.now().minusHours(2));
+        issueId = issueRepository.save(issue).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processedEventRepository.deleteAll();
+        issueRepository.deleteAll();
+    }
+
+    @Test
+    void applyEvents_ShouldRetryAfterConcurrentDeliveryCommits() {
+        // Arrange - another delivery commits evt-1 after this batch has checked for it
+        TransactionTemplate competingDelivery = new TransactionTemplate(transactionManager);
+        competingDelivery.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean committed = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (committed.compareAndSet(false, true)) {
+                competingDelivery.executeWithoutResult(status -> processedEventRepository.save(
+                        new ProcessedWorkflowEvent("evt-1", LocalDateTime.now())));
+            }
+            return invocation.callRealMethod();
+        }).when(issueService).applyUpdate(any(Issue.class), any(IssueUpdateRequest.class));
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event("evt-1", 2), event("evt-2", 3)));
+
+        // Assert
+        assertEquals(1, response.getApplied());
+        assertEquals(1, response.getDuplicates());
+        assertEquals(3, issueRepository.findById(issueId).orElseThrow().getEscalationLevel());
+        assertEquals(2, processedEventRepository.count());
+    }
+
+    private WorkflowEvent event(String eventId, Integer escalationLevel) {
+        WorkflowEvent event = new WorkflowEvent();
+        event.setEventId(eventId);
+        event.setIssueId(issueId);
+        event.setEscalationLevel(escalationLevel);
+        return event;
+    }
+}
@@ -0,0 +1,142 @@
+package customer.autoescalate_ops.service;
+
+import customer.autoescalate_ops.analytics.ResponseTimeRollups;
+import customer.autoescalate_ops.assignment.AssignmentEngine;
+import customer.autoescalate_ops.config.WorkflowCallbackProperties;
+import customer.autoescalate_ops.dto.WorkflowCallbackResponse;
+import customer.autoescalate_ops.dto.WorkflowEvent;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.ProcessedWorkflowEvent;
+import customer.autoescalate_ops.repository.ProcessedWorkflowEventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies workflow callbacks through the real {@link IssueService} and checks
+ * what ends up in the database.
+ */
+@DataJpaTest
+@Import({WorkflowCallbackService.class, IssueService.class, WorkflowCallbackProperties.class})
+class WorkflowCallbackPersistenceTest {
+
+    @Autowired
+    private WorkflowCallbackService workflowCallbackService;
+
+    @Autowired
+    private ProcessedWorkflowEventRepository processedEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private SPAClient spaClient;
+
+    @MockitoBean
+    private AssignmentEngine assignmentEngine;
+
+    @MockitoBean
+    private ResponseTimeRollups responseTimeRollups;
+
+    private UUID issueId;
+
+    @BeforeEach
+    void setUp() {
+        Issue issue = new Issue();
+        issue.setTitle("Conveyor stopped");
+        issue.setStatus("InProgress");
+        issue.setReportedAt(LocalDateTime.now().minusHours(2));
+        entityManager.persist(issue);
+        entityManager.flush();
+        issueId = issue.getId();
+    }
+
+    @Test
+    void applyEvents_ShouldStoreStatusEscalationAndComment() {
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event("evt-1", null, null, 2),
+                event("evt-2", "Resolved", "Belt replaced", null)));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, response.getApplied());
+        Issue stored = entityManager.find(Issue.class, issueId);
+        assertEquals("Resolved", stored.getStatus());
+        assertEquals(2, stored.getEscalationLevel());
+        assertEquals("Belt replaced", stored.getResolutionComment());
+        assertNotNull(stored.getResolvedAt());
+        assertEquals(2, processedEventRepository.count());
+    }
+
+    @Test
+    void applyEvents_ShouldSkipRedeliveredBatch() {
+        // Arrange
+        List<WorkflowEvent> batch = List.of(event("evt-1", null, null, 1));
+        workflowCallbackService.applyEvents(batch);
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(
+                List.of(event("evt-1", null, null, 3)));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(0, response.getApplied());
+        assertEquals(1, response.getDuplicates());
+        assertEquals(1, entityManager.find(Issue.class, issueId).getEscalationLevel());
+    }
+
+    @Test
+    void applyEvents_ShouldRejectOverlongEventIdAndApplyTheRest() {
+        // Arrange
+        String overlong = "x".repeat(ProcessedWorkflowEvent.MAX_EVENT_ID_LENGTH + 1);
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event(overlong, null, null, 3),
+                event("evt-1", "Resolved", null, null)));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, response.getApplied());
+        assertEquals(List.of(overlong), response.getRejectedEventIds());
+        Issue stored = entityManager.find(Issue.class, issueId);
+        assertEquals("Resolved", stored.getStatus());
+        assertNull(stored.getEscalationLevel());
+    }
+
+    @Test
+    void purgeProcessedEvents_ShouldKeepRecentMarkers() {
+        // Arrange
+        processedEventRepository.saveAllAndFlush(List.of(
+                new ProcessedWorkflowEvent("old", LocalDateTime.now().minusDays(60)),
+                new ProcessedWorkflowEvent("recent", LocalDateTime.now().minusDays(1))));
+
+        // Act
+        workflowCallbackService.purgeProcessedEvents();
+
+        // Assert
+        assertFalse(processedEventRepository.existsById("old"));
+        assertTrue(processedEventRepository.existsById("recent"));
+    }
+
+    private WorkflowEvent event(String eventId, String status, String resolutionComment, Integer escalationLevel) {
+        WorkflowEvent event = new WorkflowEvent();
+        event.setEventId(eventId);
+        event.setIssueId(issueId);
+        event.setStatus(status);
+        event.setResolutionComment(resolutionComment);
+        event.setEscalationLevel(escalationLevel);
+        return event;
+    }
+}
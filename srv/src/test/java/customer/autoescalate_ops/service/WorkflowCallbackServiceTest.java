@@ -0,0 +1,170 @@
+package customer.autoescalate_ops.service;
+
+import customer.autoescalate_ops.config.WorkflowCallbackProperties;
+import customer.autoescalate_ops.dto.IssueUpdateRequest;
+import customer.autoescalate_ops.dto.WorkflowCallbackResponse;
+import customer.autoescalate_ops.dto.WorkflowEvent;
+import customer.autoescalate_ops.entity.Issue;
+import customer.autoescalate_ops.entity.ProcessedWorkflowEvent;
+import customer.autoescalate_ops.repository.IssueRepository;
+import customer.autoescalate_ops.repository.ProcessedWorkflowEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowCallbackServiceTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private ProcessedWorkflowEventRepository processedEventRepository;
+
+    @Mock
+    private IssueService issueService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private WorkflowCallbackProperties callbackProperties = new WorkflowCallbackProperties();
+
+    @InjectMocks
+    private WorkflowCallbackService workflowCallbackService;
+
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        issue = new Issue();
+        issue.setId(UUID.randomUUID());
+        issue.setTitle("Conveyor stopped");
+        issue.setStatus("InProgress");
+    }
+
+    @Test
+    void applyEvents_ShouldApplyBatchWithSingleLoad() {
+        // Arrange
+        when(processedEventRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of());
+        when(issueRepository.findAllById(any())).thenReturn(List.of(issue));
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event("evt-1", issue.getId(), null, 2),
+                event("evt-2", issue.getId(), "Resolved", null)));
+
+        // Assert
+        assertEquals(2, response.getApplied());
+        assertEquals(0, response.getDuplicates());
+        assertTrue(response.getRejectedEventIds().isEmpty());
+        verify(issueRepository, times(1)).findAllById(any());
+
+        ArgumentCaptor<IssueUpdateRequest> updates = ArgumentCaptor.forClass(IssueUpdateRequest.class);
+        verify(issueService, times(2)).applyUpdate(eq(issue), updates.capture());
+        assertEquals(2, updates.getAllValues().get(0).getEscalationLevel());
+        assertEquals("Resolved", updates.getAllValues().get(1).getStatus());
+        verify(processedEventRepository).saveAllAndFlush(argThat(events -> events.spliterator().getExactSizeIfKnown() == 2));
+    }
+
+    @Test
+    void applyEvents_ShouldSkipRedeliveredEvents() {
+        // Arrange
+        when(processedEventRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of("evt-1"));
+        when(issueRepository.findAllById(any())).thenReturn(List.of(issue));
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event("evt-1", issue.getId(), "Resolved", null),
+                event("evt-2", issue.getId(), "Closed", null),
+                event("evt-2", issue.getId(), "Closed", null)));
+
+        // Assert
+        assertEquals(1, response.getApplied());
+        assertEquals(2, response.getDuplicates());
+        verify(issueService, times(1)).applyUpdate(eq(issue), any(IssueUpdateRequest.class));
+    }
+
+    @Test
+    void applyEvents_ShouldRejectInvalidAndUnknownIssueEvents() {
+        // Arrange
+        when(processedEventRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of());
+        when(issueRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event("evt-1", null, "Resolved", null),
+                event("evt-2", UUID.randomUUID(), "Resolved", null)));
+
+        // Assert
+        assertEquals(0, response.getApplied());
+        assertEquals(List.of("evt-1", "evt-2"), response.getRejectedEventIds());
+        verify(issueService, never()).applyUpdate(any(), any());
+    }
+
+    @Test
+    void applyEvents_ShouldTreatConcurrentlyCommittedEventsAsDuplicates() {
+        // Arrange - another delivery of evt-1 commits while this one is applied
+        when(processedEventRepository.findProcessedEventIds(anyCollection()))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("evt-1"));
+        when(issueRepository.findAllById(any())).thenReturn(List.of(issue));
+        when(processedEventRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        WorkflowCallbackResponse response = workflowCallbackService.applyEvents(List.of(
+                event("evt-1", issue.getId(), "Resolved", null)));
+
+        // Assert
+        assertEquals(0, response.getApplied());
+        assertEquals(1, response.getDuplicates());
+        verify(transactionManager).rollback(any());
+        verify(processedEventRepository).saveAllAndFlush(List.<ProcessedWorkflowEvent>of());
+    }
+
+    @Test
+    void purgeProcessedEvents_ShouldDeleteMarkersOlderThanRetention() {
+        // Arrange
+        callbackProperties.setEventRetention(Duration.ofDays(7));
+        LocalDateTime expectedCutoff = LocalDateTime.now().minusDays(7);
+
+        // Act
+        workflowCallbackService.purgeProcessedEvents();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(processedEventRepository).deleteProcessedBefore(cutoff.capture());
+        assertTrue(Duration.between(expectedCutoff, cutoff.getValue()).abs().toSeconds() < 5);
+    }
+
+    private WorkflowEvent event(String eventId, UUID issueId, String status, Integer escalationLevel) {
+        WorkflowEvent event = new WorkflowEvent();
+        event.setEventId(eventId);
+        event.setIssueId(issueId);
+        event.setStatus(status);
+        event.setEscalationLevel(escalationLevel);
+        return event;
+    }
+}